@@ -0,0 +1,59 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierApi;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.benchmarks.types.*;
+
+/**
+ * The class shapes that the benchmarks run against. Each shape stresses a
+ * different part of EqualsVerifier.
+ */
+public enum ClassShape {
+    FLAT {
+        @Override
+        public EqualsVerifierApi<?> forClass() {
+            return EqualsVerifier.forClass(FlatPojo.class);
+        }
+    },
+    WIDE {
+        @Override
+        public EqualsVerifierApi<?> forClass() {
+            return EqualsVerifier.forClass(WidePojo.class);
+        }
+    },
+    DEEP {
+        @Override
+        public EqualsVerifierApi<?> forClass() {
+            return EqualsVerifier.forClass(DeepHierarchy.Leaf.class)
+                    .suppress(Warning.NONFINAL_FIELDS);
+        }
+    },
+    GENERIC {
+        @Override
+        public EqualsVerifierApi<?> forClass() {
+            return EqualsVerifier.forClass(GenericContainer.class);
+        }
+    },
+    ABSTRACT {
+        @Override
+        public EqualsVerifierApi<?> forClass() {
+            return EqualsVerifier.forClass(AbstractPojo.class);
+        }
+    },
+    CACHED_HASHCODE {
+        @Override
+        public EqualsVerifierApi<?> forClass() {
+            return EqualsVerifier.forClass(CachedHashCodePojo.class)
+                    .withCachedHashCode("cachedHashCode", "calcHashCode", new CachedHashCodePojo("x", 1));
+        }
+    },
+    JPA {
+        @Override
+        public EqualsVerifierApi<?> forClass() {
+            return EqualsVerifier.forClass(JpaEntity.class);
+        }
+    };
+
+    public abstract EqualsVerifierApi<?> forClass();
+}
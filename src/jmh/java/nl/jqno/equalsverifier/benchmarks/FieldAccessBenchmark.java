@@ -0,0 +1,57 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import nl.jqno.equalsverifier.benchmarks.types.FlatPojo;
+import nl.jqno.equalsverifier.internal.reflection.ClassModel;
+import nl.jqno.equalsverifier.internal.reflection.FieldAccessBackend;
+import nl.jqno.equalsverifier.internal.reflection.FieldHandle;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the {@link FieldAccessBackend}s side by side, by reading and
+ * copying all fields of a class with each of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldAccessBenchmark {
+    @Param
+    public FieldAccessBackend backend;
+
+    private List<FieldHandle> handles;
+    private FlatPojo from;
+    private FlatPojo to;
+
+    @Setup
+    public void setUp() {
+        List<Field> fields = ClassModel.of(FlatPojo.class).getAllFields();
+        handles = fields.stream()
+                .map(backend::handleFor)
+                .collect(Collectors.toList());
+        from = new FlatPojo(1, "one", 1.0, true);
+        to = new FlatPojo(2, "two", 2.0, false);
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        for (FieldHandle handle : handles) {
+            blackhole.consume(handle.get(from));
+        }
+    }
+
+    @Benchmark
+    public FlatPojo copy() {
+        for (FieldHandle handle : handles) {
+            handle.copy(from, to);
+        }
+        return to;
+    }
+}
@@ -0,0 +1,68 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import nl.jqno.equalsverifier.benchmarks.types.GenericContainer;
+import nl.jqno.equalsverifier.benchmarks.types.JpaEntity;
+import nl.jqno.equalsverifier.benchmarks.types.WidePojo;
+import nl.jqno.equalsverifier.internal.checkers.FieldInspector;
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
+import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCacheBuilder;
+import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the internal hot paths that dominate a verification in isolation,
+ * so that changes to one of them can be evaluated without the noise of the
+ * others.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HotPathBenchmark {
+    private static final TypeTag GENERIC_TAG = new TypeTag(GenericContainer.class);
+    private static final TypeTag WIDE_TAG = new TypeTag(WidePojo.class);
+
+    private ClassAccessor<WidePojo> wideAccessor;
+
+    @Setup
+    public void setUp() {
+        PrefabValues prefabValues = new PrefabValues(JavaApiPrefabValues.build());
+        wideAccessor = ClassAccessor.of(WidePojo.class, prefabValues);
+        wideAccessor.getRedObject(WIDE_TAG);
+    }
+
+    @Benchmark
+    public Tuple<Object> giveTuple() {
+        return new PrefabValues(JavaApiPrefabValues.build()).giveTuple(GENERIC_TAG);
+    }
+
+    @Benchmark
+    public ObjectAccessor<WidePojo> getRedAccessor() {
+        return wideAccessor.getRedAccessor(WIDE_TAG);
+    }
+
+    @Benchmark
+    public AnnotationCache buildAnnotationCache() {
+        AnnotationCache cache = new AnnotationCache();
+        new AnnotationCacheBuilder(SupportedAnnotations.values(), Collections.emptySet()).build(JpaEntity.class, cache);
+        return cache;
+    }
+
+    @Benchmark
+    public void fieldInspectorCheck(Blackhole blackhole) {
+        new FieldInspector<>(wideAccessor, WIDE_TAG)
+                .check((reference, changed) -> blackhole.consume(reference.get() == changed.get()));
+    }
+}
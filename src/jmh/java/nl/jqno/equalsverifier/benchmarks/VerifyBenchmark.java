@@ -0,0 +1,30 @@
+package nl.jqno.equalsverifier.benchmarks;
+
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a complete, end-to-end verification of each {@link ClassShape}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VerifyBenchmark {
+    @Param({"FLAT", "WIDE", "DEEP", "GENERIC", "ABSTRACT", "CACHED_HASHCODE", "JPA"})
+    public ClassShape shape;
+
+    @Benchmark
+    public void verify() {
+        shape.forClass().verify();
+    }
+
+    @Benchmark
+    public EqualsVerifierReport report() {
+        return shape.forClass().report();
+    }
+}
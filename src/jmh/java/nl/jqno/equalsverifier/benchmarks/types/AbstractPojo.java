@@ -0,0 +1,33 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+/**
+ * An abstract class, which forces EqualsVerifier to generate a dynamic
+ * subclass before it can instantiate anything.
+ */
+public abstract class AbstractPojo {
+    private final int id;
+    private final String name;
+
+    protected AbstractPojo(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public abstract void doSomething();
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (!(obj instanceof AbstractPojo)) {
+            return false;
+        }
+        AbstractPojo other = (AbstractPojo)obj;
+        return id == other.id && Objects.equals(name, other.name);
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(id, name);
+    }
+}
@@ -0,0 +1,37 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+/**
+ * A class that caches its hashCode, which exercises the
+ * CachedHashCodeInitializer.
+ */
+public final class CachedHashCodePojo {
+    private final String name;
+    private final int age;
+    private final int cachedHashCode;
+
+    public CachedHashCodePojo(String name, int age) {
+        this.name = name;
+        this.age = age;
+        this.cachedHashCode = calcHashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof CachedHashCodePojo)) {
+            return false;
+        }
+        CachedHashCodePojo other = (CachedHashCodePojo)obj;
+        return age == other.age && Objects.equals(name, other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return cachedHashCode;
+    }
+
+    private int calcHashCode() {
+        return Objects.hash(name, age);
+    }
+}
@@ -0,0 +1,62 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+/**
+ * A class at the bottom of a deep inheritance chain, where every level
+ * contributes a field but only the leaf defines equals and hashCode.
+ */
+public final class DeepHierarchy {
+    private DeepHierarchy() {}
+
+    public static class Level1 {
+        protected int a;
+    }
+
+    public static class Level2 extends Level1 {
+        protected String b;
+    }
+
+    public static class Level3 extends Level2 {
+        protected long c;
+    }
+
+    public static class Level4 extends Level3 {
+        protected String d;
+    }
+
+    public static class Level5 extends Level4 {
+        protected int e;
+    }
+
+    public static class Level6 extends Level5 {
+        protected String f;
+    }
+
+    public static class Level7 extends Level6 {
+        protected long g;
+    }
+
+    public static final class Leaf extends Level7 {
+        private final String h;
+
+        public Leaf(String h) {
+            this.h = h;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Leaf)) {
+                return false;
+            }
+            Leaf other = (Leaf)obj;
+            return a == other.a && Objects.equals(b, other.b) && c == other.c && Objects.equals(d, other.d) &&
+                e == other.e && Objects.equals(f, other.f) && g == other.g && Objects.equals(h, other.h);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c, d, e, f, g, h);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+/**
+ * A small, final class with a handful of fields: the baseline shape.
+ */
+public final class FlatPojo {
+    private final int id;
+    private final String name;
+    private final double score;
+    private final boolean active;
+
+    public FlatPojo(int id, String name, double score, boolean active) {
+        this.id = id;
+        this.name = name;
+        this.score = score;
+        this.active = active;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof FlatPojo)) {
+            return false;
+        }
+        FlatPojo other = (FlatPojo)obj;
+        return id == other.id &&
+            Objects.equals(name, other.name) &&
+            Double.compare(score, other.score) == 0 &&
+            active == other.active;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, score, active);
+    }
+}
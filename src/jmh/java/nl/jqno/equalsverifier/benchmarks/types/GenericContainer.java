@@ -0,0 +1,69 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A class with heavily nested generic fields, which stresses TypeTag
+ * resolution and the generic prefab value factories.
+ */
+public final class GenericContainer {
+    private final Map<String, List<Foo<Bar>>> nested;
+    private final List<Foo<Map<Integer, Bar>>> listOfMaps;
+
+    public GenericContainer(Map<String, List<Foo<Bar>>> nested, List<Foo<Map<Integer, Bar>>> listOfMaps) {
+        this.nested = nested;
+        this.listOfMaps = listOfMaps;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof GenericContainer)) {
+            return false;
+        }
+        GenericContainer other = (GenericContainer)obj;
+        return Objects.equals(nested, other.nested) && Objects.equals(listOfMaps, other.listOfMaps);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nested, listOfMaps);
+    }
+
+    public static final class Foo<T> {
+        private final T value;
+
+        public Foo(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Foo && Objects.equals(value, ((Foo<?>)obj).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+    }
+
+    public static final class Bar {
+        private final int i;
+
+        public Bar(int i) {
+            this.i = i;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Bar && i == ((Bar)obj).i;
+        }
+
+        @Override
+        public int hashCode() {
+            return i;
+        }
+    }
+}
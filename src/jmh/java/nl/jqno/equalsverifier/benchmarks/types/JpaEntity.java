@@ -0,0 +1,40 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import nl.jqno.equalsverifier.testhelpers.annotations.javax.persistence.Entity;
+import nl.jqno.equalsverifier.testhelpers.annotations.javax.persistence.Transient;
+
+import java.util.Objects;
+
+/**
+ * A JPA entity, which exercises the annotation scanning and the
+ * entity-specific relaxations.
+ */
+@Entity
+public class JpaEntity {
+    private long id;
+    private String name;
+    @Transient
+    private String derived;
+
+    public long getId() {
+        return id;
+    }
+
+    public String getDerived() {
+        return derived;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof JpaEntity)) {
+            return false;
+        }
+        JpaEntity other = (JpaEntity)obj;
+        return id == other.id && Objects.equals(name, other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name);
+    }
+}
@@ -0,0 +1,669 @@
+package nl.jqno.equalsverifier.benchmarks.types;
+
+import java.util.Objects;
+
+/**
+ * A class with over 200 fields, which stresses every per-field loop in
+ * EqualsVerifier.
+ */
+public final class WidePojo {
+    private final int f000;
+    private final long f001;
+    private final String f002;
+    private final double f003;
+    private final boolean f004;
+    private final int f005;
+    private final long f006;
+    private final String f007;
+    private final double f008;
+    private final boolean f009;
+    private final int f010;
+    private final long f011;
+    private final String f012;
+    private final double f013;
+    private final boolean f014;
+    private final int f015;
+    private final long f016;
+    private final String f017;
+    private final double f018;
+    private final boolean f019;
+    private final int f020;
+    private final long f021;
+    private final String f022;
+    private final double f023;
+    private final boolean f024;
+    private final int f025;
+    private final long f026;
+    private final String f027;
+    private final double f028;
+    private final boolean f029;
+    private final int f030;
+    private final long f031;
+    private final String f032;
+    private final double f033;
+    private final boolean f034;
+    private final int f035;
+    private final long f036;
+    private final String f037;
+    private final double f038;
+    private final boolean f039;
+    private final int f040;
+    private final long f041;
+    private final String f042;
+    private final double f043;
+    private final boolean f044;
+    private final int f045;
+    private final long f046;
+    private final String f047;
+    private final double f048;
+    private final boolean f049;
+    private final int f050;
+    private final long f051;
+    private final String f052;
+    private final double f053;
+    private final boolean f054;
+    private final int f055;
+    private final long f056;
+    private final String f057;
+    private final double f058;
+    private final boolean f059;
+    private final int f060;
+    private final long f061;
+    private final String f062;
+    private final double f063;
+    private final boolean f064;
+    private final int f065;
+    private final long f066;
+    private final String f067;
+    private final double f068;
+    private final boolean f069;
+    private final int f070;
+    private final long f071;
+    private final String f072;
+    private final double f073;
+    private final boolean f074;
+    private final int f075;
+    private final long f076;
+    private final String f077;
+    private final double f078;
+    private final boolean f079;
+    private final int f080;
+    private final long f081;
+    private final String f082;
+    private final double f083;
+    private final boolean f084;
+    private final int f085;
+    private final long f086;
+    private final String f087;
+    private final double f088;
+    private final boolean f089;
+    private final int f090;
+    private final long f091;
+    private final String f092;
+    private final double f093;
+    private final boolean f094;
+    private final int f095;
+    private final long f096;
+    private final String f097;
+    private final double f098;
+    private final boolean f099;
+    private final int f100;
+    private final long f101;
+    private final String f102;
+    private final double f103;
+    private final boolean f104;
+    private final int f105;
+    private final long f106;
+    private final String f107;
+    private final double f108;
+    private final boolean f109;
+    private final int f110;
+    private final long f111;
+    private final String f112;
+    private final double f113;
+    private final boolean f114;
+    private final int f115;
+    private final long f116;
+    private final String f117;
+    private final double f118;
+    private final boolean f119;
+    private final int f120;
+    private final long f121;
+    private final String f122;
+    private final double f123;
+    private final boolean f124;
+    private final int f125;
+    private final long f126;
+    private final String f127;
+    private final double f128;
+    private final boolean f129;
+    private final int f130;
+    private final long f131;
+    private final String f132;
+    private final double f133;
+    private final boolean f134;
+    private final int f135;
+    private final long f136;
+    private final String f137;
+    private final double f138;
+    private final boolean f139;
+    private final int f140;
+    private final long f141;
+    private final String f142;
+    private final double f143;
+    private final boolean f144;
+    private final int f145;
+    private final long f146;
+    private final String f147;
+    private final double f148;
+    private final boolean f149;
+    private final int f150;
+    private final long f151;
+    private final String f152;
+    private final double f153;
+    private final boolean f154;
+    private final int f155;
+    private final long f156;
+    private final String f157;
+    private final double f158;
+    private final boolean f159;
+    private final int f160;
+    private final long f161;
+    private final String f162;
+    private final double f163;
+    private final boolean f164;
+    private final int f165;
+    private final long f166;
+    private final String f167;
+    private final double f168;
+    private final boolean f169;
+    private final int f170;
+    private final long f171;
+    private final String f172;
+    private final double f173;
+    private final boolean f174;
+    private final int f175;
+    private final long f176;
+    private final String f177;
+    private final double f178;
+    private final boolean f179;
+    private final int f180;
+    private final long f181;
+    private final String f182;
+    private final double f183;
+    private final boolean f184;
+    private final int f185;
+    private final long f186;
+    private final String f187;
+    private final double f188;
+    private final boolean f189;
+    private final int f190;
+    private final long f191;
+    private final String f192;
+    private final double f193;
+    private final boolean f194;
+    private final int f195;
+    private final long f196;
+    private final String f197;
+    private final double f198;
+    private final boolean f199;
+    private final int f200;
+    private final long f201;
+    private final String f202;
+    private final double f203;
+    private final boolean f204;
+    private final int f205;
+    private final long f206;
+    private final String f207;
+    private final double f208;
+    private final boolean f209;
+
+    // Too many fields for a full constructor; EqualsVerifier doesn't need one.
+    private WidePojo() {
+        this.f000 = 0;
+        this.f001 = 0L;
+        this.f002 = null;
+        this.f003 = 0.0;
+        this.f004 = false;
+        this.f005 = 0;
+        this.f006 = 0L;
+        this.f007 = null;
+        this.f008 = 0.0;
+        this.f009 = false;
+        this.f010 = 0;
+        this.f011 = 0L;
+        this.f012 = null;
+        this.f013 = 0.0;
+        this.f014 = false;
+        this.f015 = 0;
+        this.f016 = 0L;
+        this.f017 = null;
+        this.f018 = 0.0;
+        this.f019 = false;
+        this.f020 = 0;
+        this.f021 = 0L;
+        this.f022 = null;
+        this.f023 = 0.0;
+        this.f024 = false;
+        this.f025 = 0;
+        this.f026 = 0L;
+        this.f027 = null;
+        this.f028 = 0.0;
+        this.f029 = false;
+        this.f030 = 0;
+        this.f031 = 0L;
+        this.f032 = null;
+        this.f033 = 0.0;
+        this.f034 = false;
+        this.f035 = 0;
+        this.f036 = 0L;
+        this.f037 = null;
+        this.f038 = 0.0;
+        this.f039 = false;
+        this.f040 = 0;
+        this.f041 = 0L;
+        this.f042 = null;
+        this.f043 = 0.0;
+        this.f044 = false;
+        this.f045 = 0;
+        this.f046 = 0L;
+        this.f047 = null;
+        this.f048 = 0.0;
+        this.f049 = false;
+        this.f050 = 0;
+        this.f051 = 0L;
+        this.f052 = null;
+        this.f053 = 0.0;
+        this.f054 = false;
+        this.f055 = 0;
+        this.f056 = 0L;
+        this.f057 = null;
+        this.f058 = 0.0;
+        this.f059 = false;
+        this.f060 = 0;
+        this.f061 = 0L;
+        this.f062 = null;
+        this.f063 = 0.0;
+        this.f064 = false;
+        this.f065 = 0;
+        this.f066 = 0L;
+        this.f067 = null;
+        this.f068 = 0.0;
+        this.f069 = false;
+        this.f070 = 0;
+        this.f071 = 0L;
+        this.f072 = null;
+        this.f073 = 0.0;
+        this.f074 = false;
+        this.f075 = 0;
+        this.f076 = 0L;
+        this.f077 = null;
+        this.f078 = 0.0;
+        this.f079 = false;
+        this.f080 = 0;
+        this.f081 = 0L;
+        this.f082 = null;
+        this.f083 = 0.0;
+        this.f084 = false;
+        this.f085 = 0;
+        this.f086 = 0L;
+        this.f087 = null;
+        this.f088 = 0.0;
+        this.f089 = false;
+        this.f090 = 0;
+        this.f091 = 0L;
+        this.f092 = null;
+        this.f093 = 0.0;
+        this.f094 = false;
+        this.f095 = 0;
+        this.f096 = 0L;
+        this.f097 = null;
+        this.f098 = 0.0;
+        this.f099 = false;
+        this.f100 = 0;
+        this.f101 = 0L;
+        this.f102 = null;
+        this.f103 = 0.0;
+        this.f104 = false;
+        this.f105 = 0;
+        this.f106 = 0L;
+        this.f107 = null;
+        this.f108 = 0.0;
+        this.f109 = false;
+        this.f110 = 0;
+        this.f111 = 0L;
+        this.f112 = null;
+        this.f113 = 0.0;
+        this.f114 = false;
+        this.f115 = 0;
+        this.f116 = 0L;
+        this.f117 = null;
+        this.f118 = 0.0;
+        this.f119 = false;
+        this.f120 = 0;
+        this.f121 = 0L;
+        this.f122 = null;
+        this.f123 = 0.0;
+        this.f124 = false;
+        this.f125 = 0;
+        this.f126 = 0L;
+        this.f127 = null;
+        this.f128 = 0.0;
+        this.f129 = false;
+        this.f130 = 0;
+        this.f131 = 0L;
+        this.f132 = null;
+        this.f133 = 0.0;
+        this.f134 = false;
+        this.f135 = 0;
+        this.f136 = 0L;
+        this.f137 = null;
+        this.f138 = 0.0;
+        this.f139 = false;
+        this.f140 = 0;
+        this.f141 = 0L;
+        this.f142 = null;
+        this.f143 = 0.0;
+        this.f144 = false;
+        this.f145 = 0;
+        this.f146 = 0L;
+        this.f147 = null;
+        this.f148 = 0.0;
+        this.f149 = false;
+        this.f150 = 0;
+        this.f151 = 0L;
+        this.f152 = null;
+        this.f153 = 0.0;
+        this.f154 = false;
+        this.f155 = 0;
+        this.f156 = 0L;
+        this.f157 = null;
+        this.f158 = 0.0;
+        this.f159 = false;
+        this.f160 = 0;
+        this.f161 = 0L;
+        this.f162 = null;
+        this.f163 = 0.0;
+        this.f164 = false;
+        this.f165 = 0;
+        this.f166 = 0L;
+        this.f167 = null;
+        this.f168 = 0.0;
+        this.f169 = false;
+        this.f170 = 0;
+        this.f171 = 0L;
+        this.f172 = null;
+        this.f173 = 0.0;
+        this.f174 = false;
+        this.f175 = 0;
+        this.f176 = 0L;
+        this.f177 = null;
+        this.f178 = 0.0;
+        this.f179 = false;
+        this.f180 = 0;
+        this.f181 = 0L;
+        this.f182 = null;
+        this.f183 = 0.0;
+        this.f184 = false;
+        this.f185 = 0;
+        this.f186 = 0L;
+        this.f187 = null;
+        this.f188 = 0.0;
+        this.f189 = false;
+        this.f190 = 0;
+        this.f191 = 0L;
+        this.f192 = null;
+        this.f193 = 0.0;
+        this.f194 = false;
+        this.f195 = 0;
+        this.f196 = 0L;
+        this.f197 = null;
+        this.f198 = 0.0;
+        this.f199 = false;
+        this.f200 = 0;
+        this.f201 = 0L;
+        this.f202 = null;
+        this.f203 = 0.0;
+        this.f204 = false;
+        this.f205 = 0;
+        this.f206 = 0L;
+        this.f207 = null;
+        this.f208 = 0.0;
+        this.f209 = false;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof WidePojo)) {
+            return false;
+        }
+        WidePojo other = (WidePojo)obj;
+        return f000 == other.f000 &&
+            f001 == other.f001 &&
+            Objects.equals(f002, other.f002) &&
+            Double.compare(f003, other.f003) == 0 &&
+            f004 == other.f004 &&
+            f005 == other.f005 &&
+            f006 == other.f006 &&
+            Objects.equals(f007, other.f007) &&
+            Double.compare(f008, other.f008) == 0 &&
+            f009 == other.f009 &&
+            f010 == other.f010 &&
+            f011 == other.f011 &&
+            Objects.equals(f012, other.f012) &&
+            Double.compare(f013, other.f013) == 0 &&
+            f014 == other.f014 &&
+            f015 == other.f015 &&
+            f016 == other.f016 &&
+            Objects.equals(f017, other.f017) &&
+            Double.compare(f018, other.f018) == 0 &&
+            f019 == other.f019 &&
+            f020 == other.f020 &&
+            f021 == other.f021 &&
+            Objects.equals(f022, other.f022) &&
+            Double.compare(f023, other.f023) == 0 &&
+            f024 == other.f024 &&
+            f025 == other.f025 &&
+            f026 == other.f026 &&
+            Objects.equals(f027, other.f027) &&
+            Double.compare(f028, other.f028) == 0 &&
+            f029 == other.f029 &&
+            f030 == other.f030 &&
+            f031 == other.f031 &&
+            Objects.equals(f032, other.f032) &&
+            Double.compare(f033, other.f033) == 0 &&
+            f034 == other.f034 &&
+            f035 == other.f035 &&
+            f036 == other.f036 &&
+            Objects.equals(f037, other.f037) &&
+            Double.compare(f038, other.f038) == 0 &&
+            f039 == other.f039 &&
+            f040 == other.f040 &&
+            f041 == other.f041 &&
+            Objects.equals(f042, other.f042) &&
+            Double.compare(f043, other.f043) == 0 &&
+            f044 == other.f044 &&
+            f045 == other.f045 &&
+            f046 == other.f046 &&
+            Objects.equals(f047, other.f047) &&
+            Double.compare(f048, other.f048) == 0 &&
+            f049 == other.f049 &&
+            f050 == other.f050 &&
+            f051 == other.f051 &&
+            Objects.equals(f052, other.f052) &&
+            Double.compare(f053, other.f053) == 0 &&
+            f054 == other.f054 &&
+            f055 == other.f055 &&
+            f056 == other.f056 &&
+            Objects.equals(f057, other.f057) &&
+            Double.compare(f058, other.f058) == 0 &&
+            f059 == other.f059 &&
+            f060 == other.f060 &&
+            f061 == other.f061 &&
+            Objects.equals(f062, other.f062) &&
+            Double.compare(f063, other.f063) == 0 &&
+            f064 == other.f064 &&
+            f065 == other.f065 &&
+            f066 == other.f066 &&
+            Objects.equals(f067, other.f067) &&
+            Double.compare(f068, other.f068) == 0 &&
+            f069 == other.f069 &&
+            f070 == other.f070 &&
+            f071 == other.f071 &&
+            Objects.equals(f072, other.f072) &&
+            Double.compare(f073, other.f073) == 0 &&
+            f074 == other.f074 &&
+            f075 == other.f075 &&
+            f076 == other.f076 &&
+            Objects.equals(f077, other.f077) &&
+            Double.compare(f078, other.f078) == 0 &&
+            f079 == other.f079 &&
+            f080 == other.f080 &&
+            f081 == other.f081 &&
+            Objects.equals(f082, other.f082) &&
+            Double.compare(f083, other.f083) == 0 &&
+            f084 == other.f084 &&
+            f085 == other.f085 &&
+            f086 == other.f086 &&
+            Objects.equals(f087, other.f087) &&
+            Double.compare(f088, other.f088) == 0 &&
+            f089 == other.f089 &&
+            f090 == other.f090 &&
+            f091 == other.f091 &&
+            Objects.equals(f092, other.f092) &&
+            Double.compare(f093, other.f093) == 0 &&
+            f094 == other.f094 &&
+            f095 == other.f095 &&
+            f096 == other.f096 &&
+            Objects.equals(f097, other.f097) &&
+            Double.compare(f098, other.f098) == 0 &&
+            f099 == other.f099 &&
+            f100 == other.f100 &&
+            f101 == other.f101 &&
+            Objects.equals(f102, other.f102) &&
+            Double.compare(f103, other.f103) == 0 &&
+            f104 == other.f104 &&
+            f105 == other.f105 &&
+            f106 == other.f106 &&
+            Objects.equals(f107, other.f107) &&
+            Double.compare(f108, other.f108) == 0 &&
+            f109 == other.f109 &&
+            f110 == other.f110 &&
+            f111 == other.f111 &&
+            Objects.equals(f112, other.f112) &&
+            Double.compare(f113, other.f113) == 0 &&
+            f114 == other.f114 &&
+            f115 == other.f115 &&
+            f116 == other.f116 &&
+            Objects.equals(f117, other.f117) &&
+            Double.compare(f118, other.f118) == 0 &&
+            f119 == other.f119 &&
+            f120 == other.f120 &&
+            f121 == other.f121 &&
+            Objects.equals(f122, other.f122) &&
+            Double.compare(f123, other.f123) == 0 &&
+            f124 == other.f124 &&
+            f125 == other.f125 &&
+            f126 == other.f126 &&
+            Objects.equals(f127, other.f127) &&
+            Double.compare(f128, other.f128) == 0 &&
+            f129 == other.f129 &&
+            f130 == other.f130 &&
+            f131 == other.f131 &&
+            Objects.equals(f132, other.f132) &&
+            Double.compare(f133, other.f133) == 0 &&
+            f134 == other.f134 &&
+            f135 == other.f135 &&
+            f136 == other.f136 &&
+            Objects.equals(f137, other.f137) &&
+            Double.compare(f138, other.f138) == 0 &&
+            f139 == other.f139 &&
+            f140 == other.f140 &&
+            f141 == other.f141 &&
+            Objects.equals(f142, other.f142) &&
+            Double.compare(f143, other.f143) == 0 &&
+            f144 == other.f144 &&
+            f145 == other.f145 &&
+            f146 == other.f146 &&
+            Objects.equals(f147, other.f147) &&
+            Double.compare(f148, other.f148) == 0 &&
+            f149 == other.f149 &&
+            f150 == other.f150 &&
+            f151 == other.f151 &&
+            Objects.equals(f152, other.f152) &&
+            Double.compare(f153, other.f153) == 0 &&
+            f154 == other.f154 &&
+            f155 == other.f155 &&
+            f156 == other.f156 &&
+            Objects.equals(f157, other.f157) &&
+            Double.compare(f158, other.f158) == 0 &&
+            f159 == other.f159 &&
+            f160 == other.f160 &&
+            f161 == other.f161 &&
+            Objects.equals(f162, other.f162) &&
+            Double.compare(f163, other.f163) == 0 &&
+            f164 == other.f164 &&
+            f165 == other.f165 &&
+            f166 == other.f166 &&
+            Objects.equals(f167, other.f167) &&
+            Double.compare(f168, other.f168) == 0 &&
+            f169 == other.f169 &&
+            f170 == other.f170 &&
+            f171 == other.f171 &&
+            Objects.equals(f172, other.f172) &&
+            Double.compare(f173, other.f173) == 0 &&
+            f174 == other.f174 &&
+            f175 == other.f175 &&
+            f176 == other.f176 &&
+            Objects.equals(f177, other.f177) &&
+            Double.compare(f178, other.f178) == 0 &&
+            f179 == other.f179 &&
+            f180 == other.f180 &&
+            f181 == other.f181 &&
+            Objects.equals(f182, other.f182) &&
+            Double.compare(f183, other.f183) == 0 &&
+            f184 == other.f184 &&
+            f185 == other.f185 &&
+            f186 == other.f186 &&
+            Objects.equals(f187, other.f187) &&
+            Double.compare(f188, other.f188) == 0 &&
+            f189 == other.f189 &&
+            f190 == other.f190 &&
+            f191 == other.f191 &&
+            Objects.equals(f192, other.f192) &&
+            Double.compare(f193, other.f193) == 0 &&
+            f194 == other.f194 &&
+            f195 == other.f195 &&
+            f196 == other.f196 &&
+            Objects.equals(f197, other.f197) &&
+            Double.compare(f198, other.f198) == 0 &&
+            f199 == other.f199 &&
+            f200 == other.f200 &&
+            f201 == other.f201 &&
+            Objects.equals(f202, other.f202) &&
+            Double.compare(f203, other.f203) == 0 &&
+            f204 == other.f204 &&
+            f205 == other.f205 &&
+            f206 == other.f206 &&
+            Objects.equals(f207, other.f207) &&
+            Double.compare(f208, other.f208) == 0 &&
+            f209 == other.f209;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            f000, f001, f002, f003, f004, f005, f006, f007, f008, f009, f010, f011, f012, f013, f014, f015, f016, f017,
+            f018, f019, f020, f021, f022, f023, f024, f025, f026, f027, f028, f029, f030, f031, f032, f033, f034, f035,
+            f036, f037, f038, f039, f040, f041, f042, f043, f044, f045, f046, f047, f048, f049, f050, f051, f052, f053,
+            f054, f055, f056, f057, f058, f059, f060, f061, f062, f063, f064, f065, f066, f067, f068, f069, f070, f071,
+            f072, f073, f074, f075, f076, f077, f078, f079, f080, f081, f082, f083, f084, f085, f086, f087, f088, f089,
+            f090, f091, f092, f093, f094, f095, f096, f097, f098, f099, f100, f101, f102, f103, f104, f105, f106, f107,
+            f108, f109, f110, f111, f112, f113, f114, f115, f116, f117, f118, f119, f120, f121, f122, f123, f124, f125,
+            f126, f127, f128, f129, f130, f131, f132, f133, f134, f135, f136, f137, f138, f139, f140, f141, f142, f143,
+            f144, f145, f146, f147, f148, f149, f150, f151, f152, f153, f154, f155, f156, f157, f158, f159, f160, f161,
+            f162, f163, f164, f165, f166, f167, f168, f169, f170, f171, f172, f173, f174, f175, f176, f177, f178, f179,
+            f180, f181, f182, f183, f184, f185, f186, f187, f188, f189, f190, f191, f192, f193, f194, f195, f196, f197,
+            f198, f199, f200, f201, f202, f203, f204, f205, f206, f207, f208, f209);
+    }
+}
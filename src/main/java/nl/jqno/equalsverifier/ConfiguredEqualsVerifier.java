@@ -3,15 +3,52 @@ package nl.jqno.equalsverifier;
 import nl.jqno.equalsverifier.Func.Func1;
 import nl.jqno.equalsverifier.Func.Func2;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.SharedPrefabValues;
+import nl.jqno.equalsverifier.internal.reflection.PackageScanner;
+import nl.jqno.equalsverifier.internal.util.ListBuilders;
 import nl.jqno.equalsverifier.internal.util.PrefabValuesApi;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
 
 public final class ConfiguredEqualsVerifier {
-    private final EnumSet<Warning> warningsToSuppress = EnumSet.noneOf(Warning.class);
-    private final FactoryCache factoryCache = new FactoryCache();
-    private boolean usingGetClass = false;
+    private final EnumSet<Warning> warningsToSuppress;
+    private final FactoryCache factoryCache;
+    private final List<VerificationListener> listeners;
+    private boolean usingGetClass;
+    private SharedPrefabValues sharedPrefabValues;
+    private boolean reportingAllFailures;
+
+    /**
+     * Constructor.
+     */
+    public ConfiguredEqualsVerifier() {
+        this(EnumSet.noneOf(Warning.class), new FactoryCache(), false, null, false, new ArrayList<>());
+    }
+
+    private ConfiguredEqualsVerifier(EnumSet<Warning> warningsToSuppress, FactoryCache factoryCache, boolean usingGetClass,
+            SharedPrefabValues sharedPrefabValues, boolean reportingAllFailures, List<VerificationListener> listeners) {
+        this.warningsToSuppress = warningsToSuppress;
+        this.factoryCache = factoryCache;
+        this.usingGetClass = usingGetClass;
+        this.sharedPrefabValues = sharedPrefabValues;
+        this.reportingAllFailures = reportingAllFailures;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Returns a copy of the configuration, so that it can be changed without
+     * affecting the original.
+     *
+     * @return A copy of the current configuration.
+     */
+    /* package protected */ ConfiguredEqualsVerifier copy() {
+        return new ConfiguredEqualsVerifier(EnumSet.copyOf(warningsToSuppress), new FactoryCache().merge(factoryCache), usingGetClass,
+                sharedPrefabValues, reportingAllFailures, new ArrayList<>(listeners));
+    }
 
     /**
      * Suppresses warnings given by {@code EqualsVerifier}. See {@link Warning}
@@ -91,6 +128,50 @@ public final class ConfiguredEqualsVerifier {
         return this;
     }
 
+    /**
+     * Signals that the prefabricated values that EqualsVerifier creates for
+     * the fields of a class may be reused when verifying other classes with
+     * this configuration, including in parallel. This saves time when many
+     * classes have fields of the same types.
+     *
+     * Only use this when the prefabricated values are not mutated by the
+     * classes under test, for instance in their {@code equals} or
+     * {@code hashCode} methods.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public ConfiguredEqualsVerifier usingSharedPrefabValues() {
+        if (sharedPrefabValues == null) {
+            sharedPrefabValues = new SharedPrefabValues();
+        }
+        return this;
+    }
+
+    /**
+     * Signals that {@code EqualsVerifier} should not stop at the first
+     * problem it finds, but continue with its remaining checks and report
+     * all problems at once.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public ConfiguredEqualsVerifier reportingAllFailures() {
+        this.reportingAllFailures = true;
+        return this;
+    }
+
+    /**
+     * Registers a listener that is notified when the phases of each
+     * verification start and finish, with their timings.
+     *
+     * @param listener The listener.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException If {@code listener} is null.
+     */
+    public ConfiguredEqualsVerifier withListener(VerificationListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+        return this;
+    }
+
     /**
      * Factory method. For general use.
      *
@@ -100,6 +181,74 @@ public final class ConfiguredEqualsVerifier {
      * @return A fluent API for EqualsVerifier.
      */
     public <T> EqualsVerifierApi<T> forClass(Class<T> type) {
-        return new EqualsVerifierApi<>(type, EnumSet.copyOf(warningsToSuppress), factoryCache, usingGetClass);
+        return new EqualsVerifierApi<>(type, EnumSet.copyOf(warningsToSuppress), factoryCache, usingGetClass, sharedPrefabValues,
+                reportingAllFailures, listeners);
+    }
+
+    /**
+     * Factory method. Verifies several classes at once, using the same
+     * configuration for each of them.
+     *
+     * @param classes An iterable containing the classes for which
+     *          {@code equals} method should be tested.
+     * @return A fluent API for EqualsVerifier.
+     */
+    public MultipleTypeEqualsVerifierApi forClasses(Iterable<Class<?>> classes) {
+        List<Class<?>> types = new ArrayList<>();
+        classes.forEach(types::add);
+        return new MultipleTypeEqualsVerifierApi(types, copy());
+    }
+
+    /**
+     * Factory method. Verifies several classes at once, using the same
+     * configuration for each of them.
+     *
+     * @param first A class for which the {@code equals} method should be
+     *          tested.
+     * @param second Another class for which the {@code equals} method should
+     *          be tested.
+     * @param more More classes for which the {@code equals} method should be
+     *          tested.
+     * @return A fluent API for EqualsVerifier.
+     */
+    public MultipleTypeEqualsVerifierApi forClasses(Class<?> first, Class<?> second, Class<?>... more) {
+        return new MultipleTypeEqualsVerifierApi(ListBuilders.buildListOfAtLeastTwo(first, second, more), copy());
+    }
+
+    /**
+     * Factory method. Verifies all classes in the given package that declare
+     * an {@code equals} method, using the same configuration for each of
+     * them. Sub-packages are not included.
+     *
+     * Classes that don't declare {@code equals} are never loaded.
+     *
+     * @param packageName A package for which each class's {@code equals}
+     *          should be tested.
+     * @return A fluent API for EqualsVerifier.
+     * @throws IllegalStateException If the package contains no classes.
+     */
+    public MultipleTypeEqualsVerifierApi forPackage(String packageName) {
+        return forPackage(packageName, false);
+    }
+
+    /**
+     * Factory method. Verifies all classes in the given package that declare
+     * an {@code equals} method, using the same configuration for each of
+     * them.
+     *
+     * Classes that don't declare {@code equals} are never loaded.
+     *
+     * @param packageName A package for which each class's {@code equals}
+     *          should be tested.
+     * @param scanRecursively true to also scan all sub-packages.
+     * @return A fluent API for EqualsVerifier.
+     * @throws IllegalStateException If the package contains no classes.
+     */
+    public MultipleTypeEqualsVerifierApi forPackage(String packageName, boolean scanRecursively) {
+        PackageScanner classes = PackageScanner.of(packageName, scanRecursively);
+        if (!classes.containsClassFiles()) {
+            throw new IllegalStateException("Package " + packageName + " contains no classes; it may not exist.");
+        }
+        return new MultipleTypeEqualsVerifierApi(classes, copy());
     }
 }
@@ -23,7 +23,8 @@ import java.util.List;
 public final class EqualsVerifier {
 
     /**
-     * Private constructor. Call {@link #forClass(Class)} or
+     * Private constructor. Call {@link #forClass(Class)},
+     * {@link #forClasses(Iterable)}, {@link #forPackage(String)} or
      * {@link #forRelaxedEqualExamples(Object, Object, Object...)} instead.
      */
     private EqualsVerifier() {}
@@ -54,6 +55,67 @@ public final class EqualsVerifier {
         return new EqualsVerifierApi<>(type);
     }
 
+    /**
+     * Factory method. Verifies several classes at once, using the same
+     * configuration for each of them.
+     *
+     * @param classes An iterable containing the classes for which
+     *          {@code equals} method should be tested.
+     * @return A fluent API for EqualsVerifier.
+     */
+    public static MultipleTypeEqualsVerifierApi forClasses(Iterable<Class<?>> classes) {
+        return configure().forClasses(classes);
+    }
+
+    /**
+     * Factory method. Verifies several classes at once, using the same
+     * configuration for each of them.
+     *
+     * @param first A class for which the {@code equals} method should be
+     *          tested.
+     * @param second Another class for which the {@code equals} method should
+     *          be tested.
+     * @param more More classes for which the {@code equals} method should be
+     *          tested.
+     * @return A fluent API for EqualsVerifier.
+     */
+    public static MultipleTypeEqualsVerifierApi forClasses(Class<?> first, Class<?> second, Class<?>... more) {
+        return configure().forClasses(first, second, more);
+    }
+
+    /**
+     * Factory method. Verifies all classes in the given package that declare
+     * an {@code equals} method, using the same configuration for each of
+     * them. Sub-packages are not included.
+     *
+     * Classes that don't declare {@code equals} are never loaded.
+     *
+     * @param packageName A package for which each class's {@code equals}
+     *          should be tested.
+     * @return A fluent API for EqualsVerifier.
+     * @throws IllegalStateException If the package contains no classes.
+     */
+    public static MultipleTypeEqualsVerifierApi forPackage(String packageName) {
+        return configure().forPackage(packageName);
+    }
+
+    /**
+     * Factory method. Verifies all classes in the given package that declare
+     * an {@code equals} method, using the same configuration for each of
+     * them.
+     *
+     * Classes that don't declare {@code equals} are never loaded.
+     *
+     * @param packageName A package for which each class's {@code equals}
+     *          should be tested.
+     * @param scanRecursively true to also scan all sub-packages.
+     * @return A fluent API for EqualsVerifier.
+     * @throws IllegalStateException If the package contains no classes.
+     */
+    public static MultipleTypeEqualsVerifierApi forPackage(String packageName, boolean scanRecursively) {
+        return configure().forPackage(packageName, scanRecursively);
+    }
+
     /**
      * Factory method. Asks for a list of equal, but not identical, instances
      * of T.
@@ -2,14 +2,18 @@ package nl.jqno.equalsverifier;
 
 import nl.jqno.equalsverifier.Func.Func1;
 import nl.jqno.equalsverifier.Func.Func2;
+import nl.jqno.equalsverifier.VerificationListener.Phase;
 import nl.jqno.equalsverifier.internal.checkers.*;
+import nl.jqno.equalsverifier.internal.events.VerificationEvents;
 import nl.jqno.equalsverifier.internal.exceptions.MessagingException;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
+import nl.jqno.equalsverifier.internal.prefabvalues.SharedPrefabValues;
 import nl.jqno.equalsverifier.internal.util.*;
 import nl.jqno.equalsverifier.internal.util.Formatter;
 import org.objectweb.asm.Type;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Helps to construct an {@link EqualsVerifier} test with a fluent API.
@@ -17,14 +21,20 @@ import java.util.*;
  * @param <T> The class under test.
  */
 public class EqualsVerifierApi<T> {
+    private static final String MORE_INFORMATION = "For more information, go to: http://www.jqno.nl/equalsverifier/errormessages";
+
     private final Class<T> type;
     private final Set<String> actualFields;
 
     private EnumSet<Warning> warningsToSuppress = EnumSet.noneOf(Warning.class);
     private boolean usingGetClass = false;
+    private boolean reportingAllFailures = false;
+    private List<VerificationListener> listeners = new ArrayList<>();
+    private ForkJoinPool fieldCheckPool = null;
     private boolean hasRedefinedSuperclass = false;
     private Class<? extends T> redefinedSubclass = null;
     private FactoryCache factoryCache = new FactoryCache();
+    private SharedPrefabValues sharedPrefabValues = null;
     private CachedHashCodeInitializer<T> cachedHashCodeInitializer = CachedHashCodeInitializer.passthrough();
     private Set<String> allExcludedFields = new HashSet<>();
     private Set<String> allIncludedFields = new HashSet<>();
@@ -44,11 +54,15 @@ public class EqualsVerifierApi<T> {
     /**
      * Constructor, only to be called by {@link ConfiguredEqualsVerifier#forClass(Class)}.
      */
-    /* package protected */ EqualsVerifierApi(Class<T> type, EnumSet<Warning> warningsToSuppress, FactoryCache factoryCache, boolean usingGetClass) {
+    /* package protected */ EqualsVerifierApi(Class<T> type, EnumSet<Warning> warningsToSuppress, FactoryCache factoryCache, boolean usingGetClass,
+            SharedPrefabValues sharedPrefabValues, boolean reportingAllFailures, List<VerificationListener> listeners) {
         this(type);
         this.warningsToSuppress = warningsToSuppress;
         this.factoryCache = this.factoryCache.merge(factoryCache);
         this.usingGetClass = usingGetClass;
+        this.sharedPrefabValues = sharedPrefabValues;
+        this.reportingAllFailures = reportingAllFailures;
+        this.listeners = new ArrayList<>(listeners);
     }
 
     /**
@@ -139,6 +153,66 @@ public class EqualsVerifierApi<T> {
         return this;
     }
 
+    /**
+     * Signals that {@code EqualsVerifier} should not stop at the first
+     * problem it finds, but continue with its remaining checks and report
+     * all problems at once. For instance, if several fields are not used in
+     * {@code equals}, each of them is reported.
+     *
+     * Note that a problem can cause other checks to fail as well, so some of
+     * the reported problems may disappear once the first one is fixed.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public EqualsVerifierApi<T> reportingAllFailures() {
+        this.reportingAllFailures = true;
+        return this;
+    }
+
+    /**
+     * Signals that the checks on the individual fields of the class may run
+     * in parallel, on the common {@link ForkJoinPool}. This speeds up the
+     * verification of classes with many fields, even when only one class is
+     * verified.
+     *
+     * The result is the same as when the fields are checked one after the
+     * other. Checks on static fields still run one at a time, and the checks
+     * on other fields wait for them.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public EqualsVerifierApi<T> checkingFieldsInParallel() {
+        return checkingFieldsInParallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Signals that the checks on the individual fields of the class may run
+     * in parallel, on the given {@link ForkJoinPool}.
+     *
+     * @param pool The pool on which the fields are checked.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException If {@code pool} is null.
+     * @see #checkingFieldsInParallel()
+     */
+    public EqualsVerifierApi<T> checkingFieldsInParallel(ForkJoinPool pool) {
+        this.fieldCheckPool = Objects.requireNonNull(pool);
+        return this;
+    }
+
+    /**
+     * Registers a listener that is notified when the phases of the
+     * verification start and finish, with their timings. This can be used to
+     * find out where the time of a slow verification goes.
+     *
+     * @param listener The listener.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException If {@code listener} is null.
+     */
+    public EqualsVerifierApi<T> withListener(VerificationListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+        return this;
+    }
+
     /**
      * Signals that all given fields are not relevant for the {@code equals}
      * contract. {@code EqualsVerifier} will not fail if one of these fields
@@ -335,15 +409,17 @@ public class EqualsVerifierApi<T> {
      *          {@link EqualsVerifier}'s preconditions do not hold.
      */
     public void verify() {
-        try {
-            performVerification();
-        }
-        catch (MessagingException e) {
-            throw new AssertionError(buildErrorMessage(e.getDescription()), e);
+        EqualsVerifierReport report = report();
+        if (report.isSuccessful()) {
+            return;
         }
-        catch (Throwable e) {
-            throw new AssertionError(buildErrorMessage(e.getMessage()), e);
+
+        AssertionError error = new AssertionError(report.getMessage(), report.getCause());
+        List<EqualsVerifierReport> failures = report.getFailures();
+        for (EqualsVerifierReport failure : failures.subList(1, failures.size())) {
+            error.addSuppressed(failure.getCause());
         }
+        throw error;
     }
 
     /**
@@ -356,40 +432,81 @@ public class EqualsVerifierApi<T> {
      *          preconditions hold.
      */
     public EqualsVerifierReport report() {
+        FailureCollector failureCollector = new FailureCollector(reportingAllFailures);
+        Throwable thrown = null;
         try {
-            performVerification();
+            performVerification(failureCollector);
+        }
+        catch (Throwable e) {
+            thrown = e;
+        }
+
+        List<Throwable> failures = new ArrayList<>(failureCollector.getFailures());
+        if (thrown != null) {
+            failures.add(thrown);
+        }
+        return buildReport(failures);
+    }
+
+    private EqualsVerifierReport buildReport(List<Throwable> failures) {
+        if (failures.isEmpty()) {
             return EqualsVerifierReport.SUCCESS;
         }
-        catch (MessagingException e) {
-            return new EqualsVerifierReport(false, buildErrorMessage(e.getDescription()), e);
+
+        List<EqualsVerifierReport> reports = new ArrayList<>();
+        StringBuilder descriptions = new StringBuilder();
+        for (Throwable failure : failures) {
+            String description = describe(failure);
+            reports.add(new EqualsVerifierReport(false, buildErrorMessage(description), failure));
+            descriptions.append("\n-> ").append(description);
         }
-        catch (Throwable e) {
-            return new EqualsVerifierReport(false, buildErrorMessage(e.getMessage()), e);
+        if (reports.size() == 1) {
+            return reports.get(0);
         }
+
+        String message = Formatter.of("EqualsVerifier found %% problems in class %%.%%\n\n%%",
+                reports.size(), type.getSimpleName(), descriptions, MORE_INFORMATION).format();
+        return new EqualsVerifierReport(false, message, failures.get(0), reports);
+    }
+
+    private static String describe(Throwable failure) {
+        if (failure instanceof MessagingException) {
+            return ((MessagingException)failure).getDescription();
+        }
+        return failure.getMessage();
     }
 
     private String buildErrorMessage(String description) {
         return Formatter.of(
-                "EqualsVerifier found a problem in class %%.\n-> %%\n\nFor more information, go to: http://www.jqno.nl/equalsverifier/errormessages",
+                "EqualsVerifier found a problem in class %%.\n-> %%\n\n%%",
                 type.getSimpleName(),
-                description).format();
+                description,
+                MORE_INFORMATION).format();
     }
 
-    private void performVerification() {
+    private void performVerification(FailureCollector failureCollector) {
         if (type.isEnum()) {
             return;
         }
 
-        Configuration<T> config = buildConfig();
+        VerificationEvents events = VerificationEvents.of(type, listeners);
+        long start = events.started(Phase.CONFIGURATION, type);
+        Configuration<T> config = null;
+        try {
+            config = buildConfig(failureCollector, events);
+        }
+        finally {
+            events.finished(Phase.CONFIGURATION, type, start, config != null);
+        }
 
         verifyWithoutExamples(config);
         verifyWithExamples(config);
     }
 
-    private Configuration<T> buildConfig() {
+    private Configuration<T> buildConfig(FailureCollector failureCollector, VerificationEvents events) {
         return Configuration.build(type, allExcludedFields, allIncludedFields, nonnullFields, cachedHashCodeInitializer,
-                hasRedefinedSuperclass, redefinedSubclass, usingGetClass, warningsToSuppress, factoryCache,
-                ignoredAnnotationDescriptors, actualFields, equalExamples, unequalExamples);
+                hasRedefinedSuperclass, redefinedSubclass, usingGetClass, warningsToSuppress, factoryCache, sharedPrefabValues,
+                ignoredAnnotationDescriptors, actualFields, failureCollector, events, fieldCheckPool, equalExamples, unequalExamples);
     }
 
     private void verifyWithoutExamples(Configuration<T> config) {
@@ -400,9 +517,7 @@ public class EqualsVerifierApi<T> {
             new CachedHashCodeChecker<>(config)
         };
 
-        for (Checker checker : checkers) {
-            checker.check();
-        }
+        runCheckers(config, checkers);
     }
 
     private void verifyWithExamples(Configuration<T> config) {
@@ -412,8 +527,24 @@ public class EqualsVerifierApi<T> {
             new FieldsChecker<>(config)
         };
 
+        runCheckers(config, checkers);
+    }
+
+    private void runCheckers(Configuration<T> config, Checker[] checkers) {
+        VerificationEvents events = config.getEvents();
         for (Checker checker : checkers) {
-            checker.check();
+            long start = events.started(Phase.CHECKER, checker);
+            boolean successful = false;
+            try {
+                checker.check();
+                successful = true;
+            }
+            catch (MessagingException e) {
+                config.getFailureCollector().record(e);
+            }
+            finally {
+                events.finished(Phase.CHECKER, checker, start, successful);
+            }
         }
     }
 }
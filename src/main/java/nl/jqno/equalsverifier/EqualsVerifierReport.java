@@ -1,5 +1,8 @@
 package nl.jqno.equalsverifier;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Contains the results of an {@link EqualsVerifier} run.
  *
@@ -7,6 +10,10 @@ package nl.jqno.equalsverifier;
  * cause. When the run was unsuccessful, the message is identical to the
  * message of the exception that {@link EqualsVerifierApi#verify()} would
  * throw, and the cause would be identical to its cause.
+ *
+ * If {@link EqualsVerifierApi#reportingAllFailures()} was used and several
+ * problems were found, each of them is available through
+ * {@link #getFailures()}.
  */
 public class EqualsVerifierReport {
 
@@ -18,6 +25,7 @@ public class EqualsVerifierReport {
     private final boolean successful;
     private final String message;
     private final Throwable cause;
+    private final List<EqualsVerifierReport> failures;
 
     /**
      * Constructor, only to be called by {@link EqualsVerifierApi#report()}.
@@ -26,6 +34,19 @@ public class EqualsVerifierReport {
         this.successful = successful;
         this.message = message;
         this.cause = cause;
+        this.failures = successful ? Collections.emptyList() : Collections.singletonList(this);
+    }
+
+    /**
+     * Constructor, only to be called by {@link EqualsVerifierApi#report()}
+     * when it found several problems.
+     */
+    /* package protected */ EqualsVerifierReport(boolean successful, String message, Throwable cause,
+            List<EqualsVerifierReport> failures) {
+        this.successful = successful;
+        this.message = message;
+        this.cause = cause;
+        this.failures = Collections.unmodifiableList(failures);
     }
 
     /**
@@ -56,4 +77,15 @@ public class EqualsVerifierReport {
     public Throwable getCause() {
         return cause;
     }
+
+    /**
+     * @return a report for each problem that was found in the class tested by
+     *          {@link EqualsVerifierApi#report()}, in the order in which they
+     *          were found; or an empty list if it has no problems. Unless
+     *          {@link EqualsVerifierApi#reportingAllFailures()} was used, this
+     *          contains at most one report.
+     */
+    public List<EqualsVerifierReport> getFailures() {
+        return failures;
+    }
 }
@@ -0,0 +1,263 @@
+package nl.jqno.equalsverifier;
+
+import nl.jqno.equalsverifier.Func.Func1;
+import nl.jqno.equalsverifier.Func.Func2;
+import nl.jqno.equalsverifier.internal.util.Formatter;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Helps to construct an {@link EqualsVerifier} test for several classes at
+ * once with a fluent API. All classes share the same configuration.
+ */
+public class MultipleTypeEqualsVerifierApi {
+    private static final Executor CALLING_THREAD = Runnable::run;
+    private static final int LOOKAHEAD = 2 * Runtime.getRuntime().availableProcessors();
+
+    private final Iterable<Class<?>> types;
+    private final ConfiguredEqualsVerifier ev;
+    private Executor executor = CALLING_THREAD;
+
+    /**
+     * Constructor, only to be called by {@link EqualsVerifier#forClasses(Iterable)},
+     * {@link EqualsVerifier#forPackage(String)} and their counterparts in
+     * {@link ConfiguredEqualsVerifier}.
+     */
+    /* package protected */ MultipleTypeEqualsVerifierApi(Iterable<Class<?>> types, ConfiguredEqualsVerifier ev) {
+        this.types = types;
+        this.ev = ev;
+    }
+
+    /**
+     * Suppresses warnings given by {@code EqualsVerifier}. See {@link Warning}
+     * to see what warnings can be suppressed.
+     *
+     * @param warnings A list of warnings to suppress in
+     *          {@code EqualsVerifier}.
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi suppress(Warning... warnings) {
+        ev.suppress(warnings);
+        return this;
+    }
+
+    /**
+     * Adds prefabricated values for instance fields of classes that
+     * EqualsVerifier cannot instantiate by itself.
+     *
+     * @param <S> The class of the prefabricated values.
+     * @param otherType The class of the prefabricated values.
+     * @param red An instance of {@code S}.
+     * @param black Another instance of {@code S}, not equal to {@code red}.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException If either {@code otherType}, {@code red},
+     *          or {@code black} is null.
+     * @throws IllegalArgumentException If {@code red} equals {@code black}.
+     */
+    public <S> MultipleTypeEqualsVerifierApi withPrefabValues(Class<S> otherType, S red, S black) {
+        ev.withPrefabValues(otherType, red, black);
+        return this;
+    }
+
+    /**
+     * Adds a factory to generate prefabricated values for instance fields of
+     * classes with 1 generic type parameter that EqualsVerifier cannot
+     * instantiate by itself.
+     *
+     * @param <S> The class of the prefabricated values.
+     * @param otherType The class of the prefabricated values.
+     * @param factory A factory to generate an instance of {@code S}, given a
+     *          value of its generic type parameter.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException if either {@code otherType} or
+     *          {@code factory} is null.
+     */
+    public <S> MultipleTypeEqualsVerifierApi withGenericPrefabValues(Class<S> otherType, Func1<?, S> factory) {
+        ev.withGenericPrefabValues(otherType, factory);
+        return this;
+    }
+
+    /**
+     * Adds a factory to generate prefabricated values for instance fields of
+     * classes with 2 generic type parameters that EqualsVerifier cannot
+     * instantiate by itself.
+     *
+     * @param <S> The class of the prefabricated values.
+     * @param otherType The class of the prefabricated values.
+     * @param factory A factory to generate an instance of {@code S}, given a
+     *          value of each of its generic type parameters.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException if either {@code otherType} or
+     *          {@code factory} is null.
+     */
+    public <S> MultipleTypeEqualsVerifierApi withGenericPrefabValues(Class<S> otherType, Func2<?, ?, S> factory) {
+        ev.withGenericPrefabValues(otherType, factory);
+        return this;
+    }
+
+    /**
+     * Signals that {@code getClass} is used in the implementation of the
+     * {@code equals} method, instead of an {@code instanceof} check.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi usingGetClass() {
+        ev.usingGetClass();
+        return this;
+    }
+
+    /**
+     * Signals that the prefabricated values that EqualsVerifier creates for
+     * the fields of a class may be reused when verifying the other classes,
+     * including in parallel. This saves time when many classes have fields of
+     * the same types.
+     *
+     * Only use this when the prefabricated values are not mutated by the
+     * classes under test, for instance in their {@code equals} or
+     * {@code hashCode} methods.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi usingSharedPrefabValues() {
+        ev.usingSharedPrefabValues();
+        return this;
+    }
+
+    /**
+     * Signals that {@code EqualsVerifier} should not stop at the first
+     * problem it finds in a class, but continue with its remaining checks and
+     * report all problems of that class at once.
+     *
+     * @return {@code this}, for easy method chaining.
+     */
+    public MultipleTypeEqualsVerifierApi reportingAllFailures() {
+        ev.reportingAllFailures();
+        return this;
+    }
+
+    /**
+     * Registers a listener that is notified when the phases of each
+     * verification start and finish, with their timings.
+     *
+     * @param listener The listener.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException If {@code listener} is null.
+     */
+    public MultipleTypeEqualsVerifierApi withListener(VerificationListener listener) {
+        ev.withListener(listener);
+        return this;
+    }
+
+    /**
+     * Runs the verification of each class as a separate task on the given
+     * {@link Executor}, for instance a {@link java.util.concurrent.ForkJoinPool}.
+     * By default, all classes are verified one after the other on the calling
+     * thread.
+     *
+     * @param taskExecutor The executor that runs the verifications.
+     * @return {@code this}, for easy method chaining.
+     * @throws NullPointerException if {@code taskExecutor} is null.
+     */
+    public MultipleTypeEqualsVerifierApi withExecutor(Executor taskExecutor) {
+        if (taskExecutor == null) {
+            throw new NullPointerException("executor");
+        }
+        this.executor = taskExecutor;
+        return this;
+    }
+
+    /**
+     * Performs the verification of the contracts for {@code equals} and
+     * {@code hashCode} on all given classes, and throws an error if any of
+     * them fail.
+     *
+     * @throws AssertionError If the contract is not met, or if
+     *          {@link EqualsVerifier}'s preconditions do not hold, for any of
+     *          the classes.
+     */
+    public void verify() {
+        List<EqualsVerifierReport> reports = report();
+        List<EqualsVerifierReport> failures = reports.stream()
+                .filter(r -> !r.isSuccessful())
+                .collect(Collectors.toList());
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        String messages = failures.stream()
+                .map(EqualsVerifierReport::getMessage)
+                .collect(Collectors.joining("\n---\n"));
+        AssertionError error = new AssertionError(Formatter.of(
+                "EqualsVerifier found a problem in %% of %% classes.\n---\n%%",
+                failures.size(),
+                reports.size(),
+                messages).format());
+        for (EqualsVerifierReport failure : failures) {
+            error.addSuppressed(failure.getCause());
+        }
+        throw error;
+    }
+
+    /**
+     * Performs the verification of the contracts for {@code equals} and
+     * {@code hashCode} on all given classes, and returns an
+     * {@link EqualsVerifierReport} for each of them.
+     *
+     * @return A list of {@link EqualsVerifierReport}s, one for each class, in
+     *          the order in which the classes were given.
+     */
+    public List<EqualsVerifierReport> report() {
+        return streamReports().collect(Collectors.toList());
+    }
+
+    /**
+     * Performs the verification of the contracts for {@code equals} and
+     * {@code hashCode} on all given classes, and returns a lazy stream of
+     * {@link EqualsVerifierReport}s. Classes are verified as the stream is
+     * consumed; when an {@link Executor} is given, a few classes ahead of the
+     * consumer are verified in parallel.
+     *
+     * @return A stream of {@link EqualsVerifierReport}s, one for each class,
+     *          in the order in which the classes were given.
+     */
+    public Stream<EqualsVerifierReport> streamReports() {
+        Iterator<EqualsVerifierReport> reports = new ReportIterator(types.iterator());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(reports, Spliterator.ORDERED), false);
+    }
+
+    private final class ReportIterator implements Iterator<EqualsVerifierReport> {
+        private final Iterator<Class<?>> remaining;
+        private final Deque<CompletableFuture<EqualsVerifierReport>> pending = new ArrayDeque<>();
+        private final int lookahead = executor == CALLING_THREAD ? 1 : LOOKAHEAD;
+
+        private ReportIterator(Iterator<Class<?>> remaining) {
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean hasNext() {
+            submitAhead();
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public EqualsVerifierReport next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return pending.removeFirst().join();
+        }
+
+        private void submitAhead() {
+            while (pending.size() < lookahead && remaining.hasNext()) {
+                Class<?> type = remaining.next();
+                pending.addLast(CompletableFuture.supplyAsync(() -> ev.forClass(type).report(), executor));
+            }
+        }
+    }
+}
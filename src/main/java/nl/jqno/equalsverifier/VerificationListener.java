@@ -0,0 +1,90 @@
+package nl.jqno.equalsverifier;
+
+/**
+ * Receives events about the progress of an {@link EqualsVerifier} run, for
+ * instance to find out where the time of a slow verification goes.
+ *
+ * Each phase is reported once when it starts and once when it finishes,
+ * even if it fails. Phases can be nested: for instance, prefabricated values
+ * are often created while a {@link Phase#CHECKER} phase is running. When
+ * several classes are verified in parallel, a listener can be called from
+ * several threads at once.
+ *
+ * All methods do nothing by default, so only the events of interest need to
+ * be implemented.
+ */
+public interface VerificationListener {
+
+    /**
+     * The phases of a verification.
+     */
+    enum Phase {
+        /**
+         * Building the configuration of the verification, including the
+         * {@link #ANNOTATIONS} phase. The subject is the name of the class
+         * under test.
+         */
+        CONFIGURATION,
+
+        /**
+         * Scanning the class under test and its fields for annotations. The
+         * subject is the name of the class under test.
+         */
+        ANNOTATIONS,
+
+        /**
+         * Creating prefabricated values for a type. The subject is the type,
+         * including its generic parameters.
+         */
+        PREFAB_VALUES,
+
+        /**
+         * Running one of the checks on the class as a whole. The subject is
+         * the name of the check.
+         */
+        CHECKER,
+
+        /**
+         * Running one of the checks on a single field. The subject is the
+         * name of the check, followed by a dot and the name of the field.
+         */
+        FIELD_CHECK
+    }
+
+    /**
+     * Called when a phase starts.
+     *
+     * @param type The class under test.
+     * @param phase The phase that starts.
+     * @param subject What the phase works on; see {@link Phase}.
+     */
+    default void phaseStarted(Class<?> type, Phase phase, String subject) {}
+
+    /**
+     * Called when a phase finishes, whether it was successful or not.
+     *
+     * @param type The class under test.
+     * @param phase The phase that finished.
+     * @param subject What the phase worked on; see {@link Phase}.
+     * @param elapsedNanos How long the phase took, in nanoseconds.
+     */
+    default void phaseFinished(Class<?> type, Phase phase, String subject, long elapsedNanos) {}
+
+    /**
+     * Called when a phase finishes, with its outcome.
+     *
+     * By default, calls {@link #phaseFinished(Class, Phase, String, long)},
+     * so listeners that aren't interested in the outcome can implement that
+     * method instead.
+     *
+     * @param type The class under test.
+     * @param phase The phase that finished.
+     * @param subject What the phase worked on; see {@link Phase}.
+     * @param elapsedNanos How long the phase took, in nanoseconds.
+     * @param successful Whether the phase finished without finding a
+     *          problem.
+     */
+    default void phaseFinished(Class<?> type, Phase phase, String subject, long elapsedNanos, boolean successful) {
+        phaseFinished(type, phase, subject, elapsedNanos);
+    }
+}
@@ -40,8 +40,8 @@ public class CachedHashCodeChecker<T> implements Checker {
             int actualHashCode = reference.hashCode();
             int recomputedHashCode = cachedHashCodeInitializer.getInitializedHashCode(reference);
 
-            assertEquals(Formatter.of("Cached hashCode: hashCode is not properly initialized."), actualHashCode, recomputedHashCode);
-            assertFalse(Formatter.of("Cached hashCode: example.hashCode() cannot be zero. Please choose a different example."),
+            assertEquals(() -> Formatter.of("Cached hashCode: hashCode is not properly initialized."), actualHashCode, recomputedHashCode);
+            assertFalse(() -> Formatter.of("Cached hashCode: example.hashCode() cannot be zero. Please choose a different example."),
                     actualHashCode == 0);
         }
     }
@@ -49,17 +49,17 @@ public class ExamplesChecker<T> implements Checker {
 
     private void checkPreconditions() {
         for (T example : equalExamples) {
-            assertTrue(Formatter.of("Precondition:\n  %%\nand\n  %%\nare of different classes", equalExamples.get(0), example),
+            assertTrue(() -> Formatter.of("Precondition:\n  %%\nand\n  %%\nare of different classes", equalExamples.get(0), example),
                     type.isAssignableFrom(example.getClass()));
         }
     }
 
     private void checkEqualButNotIdentical(T reference, T other) {
-        assertFalse(Formatter.of("Precondition: the same object appears twice:\n  %%", reference),
+        assertFalse(() -> Formatter.of("Precondition: the same object appears twice:\n  %%", reference),
                 reference == other);
-        assertFalse(Formatter.of("Precondition: two identical objects appear:\n  %%", reference),
+        assertFalse(() -> Formatter.of("Precondition: two identical objects appear:\n  %%", reference),
                 isIdentical(reference, other));
-        assertTrue(Formatter.of("Precondition: not all equal objects are equal:\n  %%\nand\n  %%", reference, other),
+        assertTrue(() -> Formatter.of("Precondition: not all equal objects are equal:\n  %%\nand\n  %%", reference, other),
                 reference.equals(other));
     }
 
@@ -74,7 +74,7 @@ public class ExamplesChecker<T> implements Checker {
 
     private void checkReflexivity(T reference) {
         try {
-            assertEquals(Formatter.of("Reflexivity: object does not equal itself:\n  %%", reference),
+            assertEquals(() -> Formatter.of("Reflexivity: object does not equal itself:\n  %%", reference),
                 reference, reference);
         }
         catch (ClassCastException e) {
@@ -88,7 +88,7 @@ public class ExamplesChecker<T> implements Checker {
     private void checkNonNullity(T reference) {
         try {
             boolean nullity = reference.equals(null);
-            assertFalse(Formatter.of("Non-nullity: true returned for null value"), nullity);
+            assertFalse(() -> Formatter.of("Non-nullity: true returned for null value"), nullity);
         }
         catch (NullPointerException e) {
             fail(Formatter.of("Non-nullity: NullPointerException thrown"), e);
@@ -99,7 +99,7 @@ public class ExamplesChecker<T> implements Checker {
         class SomethingElse {}
         SomethingElse somethingElse = new SomethingElse();
         try {
-            assertFalse(Formatter.of("Type-check: equals returns true for an unrelated type.\nAdd an instanceof or getClass() check."),
+            assertFalse(() -> Formatter.of("Type-check: equals returns true for an unrelated type.\nAdd an instanceof or getClass() check."),
                     reference.equals(somethingElse));
         }
         catch (AssertionException e) {
@@ -115,7 +115,7 @@ public class ExamplesChecker<T> implements Checker {
 
     private void checkHashCode(T reference, T copy) {
         int referenceHashCode = cachedHashCodeInitializer.getInitializedHashCode(reference);
-        assertEquals(Formatter.of("hashCode: hashCode should be consistent:\n  %% (%%)", reference, referenceHashCode),
+        assertEquals(() -> Formatter.of("hashCode: hashCode should be consistent:\n  %% (%%)", reference, referenceHashCode),
                 referenceHashCode, cachedHashCodeInitializer.getInitializedHashCode(reference));
 
         if (!reference.equals(copy)) {
@@ -1,40 +1,256 @@
 package nl.jqno.equalsverifier.internal.checkers;
 
+import nl.jqno.equalsverifier.VerificationListener.Phase;
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.FieldCheck;
+import nl.jqno.equalsverifier.internal.events.VerificationEvents;
+import nl.jqno.equalsverifier.internal.exceptions.MessagingException;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
 import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
 import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
 import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
+import nl.jqno.equalsverifier.internal.util.Configuration;
+import nl.jqno.equalsverifier.internal.util.FailureCollector;
 
 import java.lang.reflect.Field;
-import java.util.Set;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
+/**
+ * Runs {@link FieldCheck}s on each field of a class.
+ *
+ * Each check gets its own pair of objects for each field. Instead of
+ * instantiating and scrambling a new pair every time, the pairs are copied
+ * from a single template.
+ *
+ * When several checks are given at once, they run in a single pass over the
+ * fields: all checks for the first field, then all checks for the second
+ * field, and so on. Failures are still reported as if each check had run
+ * over all fields before the next check started: the first failure in that
+ * order is the one that is thrown, and collected failures are recorded in
+ * that order.
+ *
+ * If a {@link ForkJoinPool} is given, the fields are checked in parallel.
+ * Fields are independent of each other, because each check on each field
+ * gets its own objects. Static fields are the exception: they are checked
+ * one at a time, and the fields between them wait for them, so that every
+ * field sees the same static state as it would when checked sequentially.
+ *
+ * @param <T> The class whose fields are checked.
+ */
 public class FieldInspector<T> {
     private final ClassAccessor<T> classAccessor;
     private final TypeTag typeTag;
+    private final FailureCollector failures;
+    private final VerificationEvents events;
+    private final ForkJoinPool pool;
 
     public FieldInspector(ClassAccessor<T> classAccessor, TypeTag typeTag) {
+        this(classAccessor, typeTag, new FailureCollector(false), VerificationEvents.NONE, null);
+    }
+
+    public FieldInspector(Configuration<T> config) {
+        this(config.getClassAccessor(), config.getTypeTag(), config.getFailureCollector(), config.getEvents(),
+                config.getFieldCheckPool());
+    }
+
+    public FieldInspector(ClassAccessor<T> classAccessor, TypeTag typeTag, FailureCollector failures, VerificationEvents events,
+            ForkJoinPool pool) {
         this.classAccessor = classAccessor;
         this.typeTag = typeTag;
+        this.failures = failures;
+        this.events = events;
+        this.pool = pool;
     }
 
     public void check(FieldCheck check) {
-        for (Field field : FieldIterable.of(classAccessor.getType())) {
-            ObjectAccessor<T> reference = classAccessor.getRedAccessor(typeTag);
-            ObjectAccessor<T> changed = classAccessor.getRedAccessor(typeTag);
+        check(Collections.singletonList(check));
+    }
 
-            check.execute(reference.fieldAccessorFor(field), changed.fieldAccessorFor(field));
-        }
+    public void check(List<FieldCheck> checks) {
+        run(checks, classAccessor.getRedAccessor(typeTag));
     }
 
     public void checkWithNull(Set<String> nonnullFields, AnnotationCache annotationCache, FieldCheck check) {
+        run(Collections.singletonList(check), classAccessor.getDefaultValuesAccessor(typeTag, nonnullFields, annotationCache));
+    }
+
+    private void run(List<FieldCheck> checks, ObjectAccessor<T> template) {
+        List<Field> fields = new ArrayList<>();
         for (Field field : FieldIterable.of(classAccessor.getType())) {
-            ObjectAccessor<T> reference = classAccessor.getDefaultValuesAccessor(typeTag, nonnullFields, annotationCache);
-            ObjectAccessor<T> changed = classAccessor.getDefaultValuesAccessor(typeTag, nonnullFields, annotationCache);
+            fields.add(field);
+        }
+
+        FieldResult[] results = new FieldResult[fields.size()];
+        if (pool == null) {
+            runSequentially(checks, template, fields, results);
+        }
+        else {
+            runInParallel(checks, template, fields, results);
+        }
+        report(results);
+    }
+
+    private void runSequentially(List<FieldCheck> checks, ObjectAccessor<T> template, List<Field> fields, FieldResult[] results) {
+        int checkCount = checks.size();
+        for (int i = 0; i < fields.size(); i += 1) {
+            results[i] = runChecks(checks, checkCount, template, fields.get(i), i);
+            if (results[i].stop != null) {
+                checkCount = results[i].stop.checkIndex;
+            }
+        }
+    }
+
+    private void runInParallel(List<FieldCheck> checks, ObjectAccessor<T> template, List<Field> fields, FieldResult[] results) {
+        int from = 0;
+        while (from < fields.size()) {
+            int to = from + 1;
+            if (!isStatic(fields.get(from))) {
+                while (to < fields.size() && !isStatic(fields.get(to))) {
+                    to += 1;
+                }
+            }
+
+            if (to - from == 1) {
+                results[from] = runChecks(checks, checks.size(), template, fields.get(from), from);
+            }
+            else {
+                List<ForkJoinTask<?>> tasks = new ArrayList<>();
+                for (int i = from; i < to; i += 1) {
+                    int index = i;
+                    tasks.add(ForkJoinTask.adapt(() -> {
+                        results[index] = runChecks(checks, checks.size(), template, fields.get(index), index);
+                    }));
+                }
+                pool.invoke(ForkJoinTask.adapt(() -> {
+                    ForkJoinTask.invokeAll(tasks);
+                }));
+            }
+            from = to;
+        }
+    }
+
+    private static boolean isStatic(Field field) {
+        return Modifier.isStatic(field.getModifiers());
+    }
+
+    private FieldResult runChecks(List<FieldCheck> checks, int checkCount, ObjectAccessor<T> template, Field field, int fieldIndex) {
+        FieldResult result = new FieldResult();
+        for (int i = 0; i < checkCount; i += 1) {
+            Throwable thrown = execute(checks.get(i), template, field);
+            if (thrown != null) {
+                Failure failure = new Failure(i, fieldIndex, thrown);
+                if (!failures.isCollecting() || !(thrown instanceof MessagingException)) {
+                    result.stop = failure;
+                    return result;
+                }
+                result.found.add(failure);
+            }
+        }
+        return result;
+    }
 
+    private Throwable execute(FieldCheck check, ObjectAccessor<T> template, Field field) {
+        long start = events.started(Phase.FIELD_CHECK, check, field);
+        boolean successful = false;
+        try {
+            ObjectAccessor<T> reference = copyOf(template);
+            ObjectAccessor<T> changed = copyOf(template);
             check.execute(reference.fieldAccessorFor(field), changed.fieldAccessorFor(field));
+            successful = true;
+            return null;
+        }
+        catch (RuntimeException | Error e) {
+            return e;
+        }
+        finally {
+            events.finished(Phase.FIELD_CHECK, check, field, start, successful);
         }
     }
 
+    private ObjectAccessor<T> copyOf(ObjectAccessor<T> template) {
+        return ObjectAccessor.of(template.copy());
+    }
+
+    private void report(FieldResult[] results) {
+        List<Failure> found = new ArrayList<>();
+        Failure stop = null;
+        for (FieldResult result : results) {
+            found.addAll(result.found);
+            if (result.stop != null && (stop == null || result.stop.compareTo(stop) < 0)) {
+                stop = result.stop;
+            }
+        }
+
+        Collections.sort(found);
+        for (Failure failure : found) {
+            if (stop == null || failure.compareTo(stop) < 0) {
+                failure.reportTo(failures);
+            }
+        }
+        if (stop != null) {
+            stop.reportTo(failures);
+        }
+    }
+
+    /**
+     * The outcome of the checks on a single field: the failures that were
+     * collected, and the failure that stopped the checks, if any.
+     */
+    private static final class FieldResult {
+        private final List<Failure> found = new ArrayList<>();
+        private Failure stop;
+    }
+
+    /**
+     * A failed check on a field, ordered as if the checks had run one after
+     * the other over all fields.
+     */
+    private static final class Failure implements Comparable<Failure> {
+        private final int checkIndex;
+        private final int fieldIndex;
+        private final Throwable thrown;
+
+        private Failure(int checkIndex, int fieldIndex, Throwable thrown) {
+            this.checkIndex = checkIndex;
+            this.fieldIndex = fieldIndex;
+            this.thrown = thrown;
+        }
+
+        public void reportTo(FailureCollector collector) {
+            if (thrown instanceof MessagingException) {
+                collector.record((MessagingException)thrown);
+            }
+            else if (thrown instanceof RuntimeException) {
+                throw (RuntimeException)thrown;
+            }
+            else {
+                throw (Error)thrown;
+            }
+        }
+
+        @Override
+        public int compareTo(Failure other) {
+            if (checkIndex != other.checkIndex) {
+                return Integer.compare(checkIndex, other.checkIndex);
+            }
+            return Integer.compare(fieldIndex, other.fieldIndex);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Failure)) {
+                return false;
+            }
+            Failure other = (Failure)obj;
+            return checkIndex == other.checkIndex && fieldIndex == other.fieldIndex;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(checkIndex, fieldIndex);
+        }
+    }
 }
@@ -10,6 +10,8 @@ import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
 import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
 import nl.jqno.equalsverifier.internal.util.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 public class FieldsChecker<T> implements Checker {
@@ -46,25 +48,28 @@ public class FieldsChecker<T> implements Checker {
     @Override
     public void check() {
         ClassAccessor<T> classAccessor = config.getClassAccessor();
-        FieldInspector<T> inspector = new FieldInspector<>(classAccessor, config.getTypeTag());
 
+        List<FieldCheck> checks = new ArrayList<>();
         if (!classAccessor.isEqualsInheritedFromObject()) {
-            inspector.check(arrayFieldCheck);
-            inspector.check(floatAndDoubleFieldCheck);
-            inspector.check(reflexivityFieldCheck);
+            checks.add(arrayFieldCheck);
+            checks.add(floatAndDoubleFieldCheck);
+            checks.add(reflexivityFieldCheck);
         }
 
         if (!ignoreMutability(config.getType())) {
-            inspector.check(mutableStateFieldCheck);
+            checks.add(mutableStateFieldCheck);
         }
 
         if (!config.getWarningsToSuppress().contains(Warning.TRANSIENT_FIELDS)) {
-            inspector.check(transientFieldsCheck);
+            checks.add(transientFieldsCheck);
         }
 
-        inspector.check(significantFieldCheck);
-        inspector.check(symmetryFieldCheck);
-        inspector.check(transitivityFieldCheck);
+        checks.add(significantFieldCheck);
+        checks.add(symmetryFieldCheck);
+        checks.add(transitivityFieldCheck);
+
+        FieldInspector<T> inspector = new FieldInspector<>(config);
+        inspector.check(checks);
 
         if (!config.getWarningsToSuppress().contains(Warning.NULL_FIELDS)) {
             inspector.checkWithNull(config.getNonnullFields(), config.getAnnotationCache(), skippingSignificantFieldCheck);
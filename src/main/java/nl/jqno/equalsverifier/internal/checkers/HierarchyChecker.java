@@ -1,17 +1,16 @@
 package nl.jqno.equalsverifier.internal.checkers;
 
 import nl.jqno.equalsverifier.Warning;
-import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
+import nl.jqno.equalsverifier.internal.reflection.ClassModel;
 import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
 import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
 import nl.jqno.equalsverifier.internal.util.CachedHashCodeInitializer;
 import nl.jqno.equalsverifier.internal.util.Configuration;
 import nl.jqno.equalsverifier.internal.util.Formatter;
 
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.*;
 
@@ -36,7 +35,7 @@ public class HierarchyChecker<T> implements Checker {
         this.typeTag = config.getTypeTag();
         this.classAccessor = config.getClassAccessor();
         this.redefinedSubclass = config.getRedefinedSubclass();
-        this.typeIsFinal = Modifier.isFinal(type.getModifiers());
+        this.typeIsFinal = ClassModel.of(type).isFinal();
         this.cachedHashCodeInitializer = config.getCachedHashCodeInitializer();
     }
 
@@ -92,17 +91,18 @@ public class HierarchyChecker<T> implements Checker {
     }
 
     private void checkSuperProperties(T reference, Object equalSuper, T shallow) {
-        Formatter symmetryFormatter = Formatter.of("Symmetry:\n  %%\ndoes not equal superclass instance\n  %%", reference, equalSuper);
+        Supplier<Formatter> symmetryFormatter =
+            () -> Formatter.of("Symmetry:\n  %%\ndoes not equal superclass instance\n  %%", reference, equalSuper);
         assertTrue(symmetryFormatter, reference.equals(equalSuper) && equalSuper.equals(reference));
 
-        Formatter transitivityFormatter = Formatter.of(
+        Supplier<Formatter> transitivityFormatter = () -> Formatter.of(
                 "Transitivity:\n  %%\nand\n  %%\nboth equal superclass instance\n  %%\nwhich implies they equal each other.",
                 reference, shallow, equalSuper);
         assertTrue(transitivityFormatter, reference.equals(shallow) || reference.equals(equalSuper) != equalSuper.equals(shallow));
 
         int referenceHashCode = cachedHashCodeInitializer.getInitializedHashCode(reference);
         int equalSuperHashCode = cachedHashCodeInitializer.getInitializedHashCode(equalSuper);
-        Formatter superclassFormatter = Formatter.of(
+        Supplier<Formatter> superclassFormatter = () -> Formatter.of(
                 "Superclass: hashCode for\n  %% (%%)\nshould be equal to hashCode for superclass instance\n  %% (%%)",
                 reference, referenceHashCode, equalSuper, equalSuperHashCode);
         assertTrue(superclassFormatter, referenceHashCode == equalSuperHashCode);
@@ -142,14 +142,14 @@ public class HierarchyChecker<T> implements Checker {
             return;
         }
 
-        if (methodIsFinal("equals", Object.class)) {
+        if (ClassModel.of(type).isEqualsFinal()) {
             fail(Formatter.of("Subclass: %% has a final equals method.\nNo need to supply a redefined subclass.", type.getSimpleName()));
         }
 
         ObjectAccessor<T> referenceAccessor = classAccessor.getRedAccessor(typeTag);
         T reference = referenceAccessor.get();
         T redefinedSub = referenceAccessor.copyIntoSubclass(redefinedSubclass);
-        assertFalse(Formatter.of("Subclass:\n  %%\nequals subclass instance\n  %%", reference, redefinedSub),
+        assertFalse(() -> Formatter.of("Subclass:\n  %%\nequals subclass instance\n  %%", reference, redefinedSub),
                 reference.equals(redefinedSub));
     }
 
@@ -162,36 +162,25 @@ public class HierarchyChecker<T> implements Checker {
             return;
         }
 
-        boolean equalsIsFinal = methodIsFinal("equals", Object.class);
-        boolean hashCodeIsFinal = methodIsFinal("hashCode");
+        boolean equalsIsFinal = ClassModel.of(type).isEqualsFinal();
+        boolean hashCodeIsFinal = ClassModel.of(type).isHashCodeFinal();
 
         if (config.isUsingGetClass()) {
-            assertEquals(Formatter.of("Finality: equals and hashCode must both be final or both be non-final."),
+            assertEquals(() -> Formatter.of("Finality: equals and hashCode must both be final or both be non-final."),
                     equalsIsFinal, hashCodeIsFinal);
         }
         else {
-            Formatter equalsFormatter = Formatter.of(
+            Supplier<Formatter> equalsFormatter = () -> Formatter.of(
                     "Subclass: equals is not final." +
                     "\nMake your class or your equals method final," +
                     " or supply an instance of a redefined subclass using withRedefinedSubclass if equals cannot be final.");
             assertTrue(equalsFormatter, equalsIsFinal);
 
-            Formatter hashCodeFormatter = Formatter.of(
+            Supplier<Formatter> hashCodeFormatter = () -> Formatter.of(
                     "Subclass: hashCode is not final." +
                     "\nMake your class or your hashCode method final," +
                     " or supply an instance of a redefined subclass using withRedefinedSubclass if hashCode cannot be final.");
             assertTrue(hashCodeFormatter, hashCodeIsFinal);
         }
     }
-
-    private boolean methodIsFinal(String methodName, Class<?>... parameterTypes) {
-        try {
-            Method method = type.getMethod(methodName, parameterTypes);
-            return Modifier.isFinal(method.getModifiers());
-        }
-        catch (SecurityException | NoSuchMethodException e) {
-            throw new ReflectionException("Should never occur: cannot find " + type.getName() + "." + methodName);
-        }
-
-    }
 }
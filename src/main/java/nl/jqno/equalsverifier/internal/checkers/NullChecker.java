@@ -2,7 +2,6 @@ package nl.jqno.equalsverifier.internal.checkers;
 
 import nl.jqno.equalsverifier.Warning;
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.NullPointerExceptionFieldCheck;
-import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
 import nl.jqno.equalsverifier.internal.util.Configuration;
 
 public class NullChecker<T> implements Checker {
@@ -18,8 +17,7 @@ public class NullChecker<T> implements Checker {
             return;
         }
 
-        ClassAccessor<T> classAccessor = config.getClassAccessor();
-        FieldInspector<T> inspector = new FieldInspector<>(classAccessor, config.getTypeTag());
+        FieldInspector<T> inspector = new FieldInspector<>(config);
         inspector.check(new NullPointerExceptionFieldCheck<>(config));
     }
 }
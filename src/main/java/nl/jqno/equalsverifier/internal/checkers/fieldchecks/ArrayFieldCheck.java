@@ -5,6 +5,7 @@ import nl.jqno.equalsverifier.internal.util.CachedHashCodeInitializer;
 import nl.jqno.equalsverifier.internal.util.Formatter;
 
 import java.lang.reflect.Array;
+import java.util.function.Supplier;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.assertEquals;
 
@@ -62,12 +63,12 @@ public class ArrayFieldCheck<T> implements FieldCheck {
     }
 
     private void assertDeep(String fieldName, Object reference, Object changed) {
-        Formatter eqEqFormatter = Formatter.of(
+        Supplier<Formatter> eqEqFormatter = () -> Formatter.of(
                 "Multidimensional array: ==, regular equals() or Arrays.equals() used instead of Arrays.deepEquals() for field %%.",
                 fieldName);
         assertEquals(eqEqFormatter, reference, changed);
 
-        Formatter regularFormatter = Formatter.of(
+        Supplier<Formatter> regularFormatter = () -> Formatter.of(
                 "Multidimensional array: regular hashCode() or Arrays.hashCode() used instead of Arrays.deepHashCode() for field %%.",
                 fieldName);
         assertEquals(regularFormatter,
@@ -75,9 +76,9 @@ public class ArrayFieldCheck<T> implements FieldCheck {
     }
 
     private void assertArray(String fieldName, Object reference, Object changed) {
-        assertEquals(Formatter.of("Array: == or regular equals() used instead of Arrays.equals() for field %%.", fieldName),
+        assertEquals(() -> Formatter.of("Array: == or regular equals() used instead of Arrays.equals() for field %%.", fieldName),
                 reference, changed);
-        assertEquals(Formatter.of("Array: regular hashCode() used instead of Arrays.hashCode() for field %%.", fieldName),
+        assertEquals(() -> Formatter.of("Array: regular hashCode() used instead of Arrays.hashCode() for field %%.", fieldName),
                 cachedHashCodeInitializer.getInitializedHashCode(reference), cachedHashCodeInitializer.getInitializedHashCode(changed));
     }
 }
@@ -12,13 +12,13 @@ public class FloatAndDoubleFieldCheck implements FieldCheck {
         if (isFloat(type)) {
             referenceAccessor.set(Float.NaN);
             changedAccessor.set(Float.NaN);
-            assertEquals(Formatter.of("Float: equals doesn't use Float.compare for field %%.", referenceAccessor.getFieldName()),
+            assertEquals(() -> Formatter.of("Float: equals doesn't use Float.compare for field %%.", referenceAccessor.getFieldName()),
                     referenceAccessor.getObject(), changedAccessor.getObject());
         }
         if (isDouble(type)) {
             referenceAccessor.set(Double.NaN);
             changedAccessor.set(Double.NaN);
-            assertEquals(Formatter.of("Double: equals doesn't use Double.compare for field %%.", referenceAccessor.getFieldName()),
+            assertEquals(() -> Formatter.of("Double: equals doesn't use Double.compare for field %%.", referenceAccessor.getFieldName()),
                     referenceAccessor.getObject(), changedAccessor.getObject());
         }
     }
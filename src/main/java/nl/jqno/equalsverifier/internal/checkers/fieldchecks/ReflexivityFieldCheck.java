@@ -97,7 +97,7 @@ public class ReflexivityFieldCheck<T> implements FieldCheck {
         Object right = changedAccessor.getObject();
 
         if (warningsToSuppress.contains(Warning.IDENTICAL_COPY)) {
-            assertFalse(Formatter.of("Unnecessary suppression: %%. Two identical copies are equal.", Warning.IDENTICAL_COPY.toString()),
+            assertFalse(() -> Formatter.of("Unnecessary suppression: %%. Two identical copies are equal.", Warning.IDENTICAL_COPY.toString()),
                     left.equals(right));
         }
         else {
@@ -13,6 +13,7 @@ import nl.jqno.equalsverifier.internal.util.Formatter;
 import java.util.EnumSet;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static nl.jqno.equalsverifier.internal.util.Assert.assertFalse;
 import static nl.jqno.equalsverifier.internal.util.Assert.assertTrue;
@@ -72,13 +73,13 @@ public class SignificantFieldCheck<T> implements FieldCheck {
             boolean skipEqualsHasMoreThanHashCodeTest =
                     warningsToSuppress.contains(Warning.STRICT_HASHCODE) || skipCertainTestsThatDontMatterWhenValuesAreNull;
             if (!skipEqualsHasMoreThanHashCodeTest) {
-                Formatter formatter = Formatter.of(
+                Supplier<Formatter> formatter = () -> Formatter.of(
                         "Significant fields: equals relies on %%, but hashCode does not." +
                         "\n  %% has hashCode %%\n  %% has hashCode %%",
                         fieldName, reference, reference.hashCode(), changed, changed.hashCode());
                 assertFalse(formatter, equalsChanged);
             }
-            Formatter formatter = Formatter.of(
+            Supplier<Formatter> formatter = () -> Formatter.of(
                     "Significant fields: hashCode relies on %%, but equals does not." +
                     "\nThese objects are equal, but probably shouldn't be:\n  %%\nand\n  %%",
                     fieldName, reference, changed);
@@ -90,12 +91,12 @@ public class SignificantFieldCheck<T> implements FieldCheck {
                 FieldAccessor referenceAccessor, String fieldName) {
 
         if (shouldAllFieldsBeUsed(referenceAccessor) && isFieldEligible(referenceAccessor)) {
-            assertTrue(Formatter.of("Significant fields: equals does not use %%.", fieldName), equalToItself);
+            assertTrue(() -> Formatter.of("Significant fields: equals does not use %%.", fieldName), equalToItself);
 
             boolean fieldShouldBeIgnored = ignoredFields.contains(fieldName);
-            assertTrue(Formatter.of("Significant fields: equals does not use %%, or it is stateless.", fieldName),
+            assertTrue(() -> Formatter.of("Significant fields: equals does not use %%, or it is stateless.", fieldName),
                     fieldShouldBeIgnored || equalsChanged);
-            assertTrue(Formatter.of("Significant fields: equals should not use %%, but it does.", fieldName),
+            assertTrue(() -> Formatter.of("Significant fields: equals should not use %%, but it does.", fieldName),
                     !fieldShouldBeIgnored || !equalsChanged || skipCertainTestsThatDontMatterWhenValuesAreNull);
         }
     }
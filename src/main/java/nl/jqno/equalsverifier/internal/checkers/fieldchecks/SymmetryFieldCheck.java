@@ -30,7 +30,7 @@ public class SymmetryFieldCheck implements FieldCheck {
     private void checkSymmetry(FieldAccessor referenceAccessor, FieldAccessor changedAccessor) {
         Object left = referenceAccessor.getObject();
         Object right = changedAccessor.getObject();
-        assertTrue(Formatter.of("Symmetry: objects are not symmetric:\n  %%\nand\n  %%", left, right),
+        assertTrue(() -> Formatter.of("Symmetry: objects are not symmetric:\n  %%\nand\n  %%", left, right),
                 left.equals(right) == right.equals(left));
     }
 }
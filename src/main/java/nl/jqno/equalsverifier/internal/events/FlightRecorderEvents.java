@@ -0,0 +1,213 @@
+package nl.jqno.equalsverifier.internal.events;
+
+import nl.jqno.equalsverifier.VerificationListener;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.*;
+
+/**
+ * Emits JDK Flight Recorder events for the phases of a verification, so they
+ * show up in a recording next to GC and class loading data.
+ *
+ * {@code jdk.jfr} is accessed reflectively, so this works on every JDK that
+ * has it, while EqualsVerifier itself still runs on JDKs that don't. On
+ * those, nothing is emitted. The event type is only registered once the
+ * Flight Recorder has been initialized, and events are only created while a
+ * recording has enabled them.
+ */
+public final class FlightRecorderEvents implements VerificationListener {
+    /** The name of the events in a recording. */
+    public static final String EVENT_NAME = "nl.jqno.equalsverifier.Phase";
+
+    /** The phase of generating a dynamic subclass, which is not part of a single verification. */
+    public static final String DYNAMIC_SUBCLASS = "DYNAMIC_SUBCLASS";
+
+    /** Turns the phases of a verification into events. */
+    public static final FlightRecorderEvents LISTENER = new FlightRecorderEvents();
+
+    private static final Object SKIPPED = new Object();
+    private static final Recorder RECORDER = Recorder.load();
+    private static final ThreadLocal<Deque<Object>> OPEN_EVENTS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private FlightRecorderEvents() {}
+
+    /**
+     * @return Whether a recording is active that includes EqualsVerifier's
+     *          events.
+     */
+    public static boolean isRecording() {
+        return RECORDER != null && RECORDER.isRecording();
+    }
+
+    /**
+     * Starts an event, if a recording is active.
+     *
+     * @param className The name of the class the event is about.
+     * @param phase The name of the phase.
+     * @param subject What the phase works on.
+     * @return The event, to be passed to {@link #end(Object, boolean)}, or
+     *          null if there is no active recording.
+     */
+    public static Object begin(String className, String phase, String subject) {
+        if (!isRecording()) {
+            return null;
+        }
+        return RECORDER.begin(className, phase, subject);
+    }
+
+    /**
+     * Ends an event and adds it to the recording.
+     *
+     * @param event The value returned by
+     *          {@link #begin(String, String, String)}. May be null.
+     * @param successful Whether the phase was successful.
+     */
+    public static void end(Object event, boolean successful) {
+        if (event != null) {
+            RECORDER.end(event, successful);
+        }
+    }
+
+    @Override
+    public void phaseStarted(Class<?> type, Phase phase, String subject) {
+        Object event = begin(type.getName(), phase.name(), subject);
+        OPEN_EVENTS.get().push(event == null ? SKIPPED : event);
+    }
+
+    @Override
+    public void phaseFinished(Class<?> type, Phase phase, String subject, long elapsedNanos, boolean successful) {
+        Deque<Object> open = OPEN_EVENTS.get();
+        Object event = open.pop();
+        if (open.isEmpty()) {
+            OPEN_EVENTS.remove();
+        }
+        if (event != SKIPPED) {
+            end(event, successful);
+        }
+    }
+
+    /**
+     * Calls {@code jdk.jfr} through method handles. If any of the calls
+     * fails, no further events are emitted.
+     */
+    private static final class Recorder {
+        private static final String[] FIELDS = { "className", "phase", "subject", "outcome" };
+        private static final int OUTCOME = 3;
+
+        private final MethodHandle isInitialized;
+        private volatile boolean initialized = false;
+        private volatile boolean broken = false;
+
+        private MethodHandle isEnabled;
+        private MethodHandle newEvent;
+        private MethodHandle set;
+        private MethodHandle beginEvent;
+        private MethodHandle endEvent;
+        private MethodHandle commitEvent;
+
+        private Recorder(MethodHandle isInitialized) {
+            this.isInitialized = isInitialized;
+        }
+
+        public static Recorder load() {
+            try {
+                Class<?> flightRecorder = Class.forName("jdk.jfr.FlightRecorder");
+                MethodHandle isInitialized =
+                    MethodHandles.publicLookup().findStatic(flightRecorder, "isInitialized", MethodType.methodType(boolean.class));
+                return new Recorder(isInitialized);
+            }
+            catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+                return null;
+            }
+        }
+
+        public boolean isRecording() {
+            if (broken) {
+                return false;
+            }
+            try {
+                if (!initialized) {
+                    if (!(boolean)isInitialized.invoke()) {
+                        return false;
+                    }
+                    initialize();
+                }
+                return (boolean)isEnabled.invoke();
+            }
+            catch (Throwable e) {
+                broken = true;
+                return false;
+            }
+        }
+
+        public Object begin(String className, String phase, String subject) {
+            try {
+                Object event = newEvent.invoke();
+                set.invoke(event, 0, className);
+                set.invoke(event, 1, phase);
+                set.invoke(event, 2, subject);
+                beginEvent.invoke(event);
+                return event;
+            }
+            catch (Throwable e) {
+                broken = true;
+                return null;
+            }
+        }
+
+        public void end(Object event, boolean successful) {
+            try {
+                set.invoke(event, OUTCOME, successful ? "success" : "failure");
+                endEvent.invoke(event);
+                commitEvent.invoke(event);
+            }
+            catch (Throwable e) {
+                broken = true;
+            }
+        }
+
+        private synchronized void initialize() throws ReflectiveOperationException {
+            if (initialized) {
+                return;
+            }
+
+            Class<?> eventFactoryType = Class.forName("jdk.jfr.EventFactory");
+            Class<?> eventTypeType = Class.forName("jdk.jfr.EventType");
+            Class<?> eventType = Class.forName("jdk.jfr.Event");
+            Object factory = eventFactoryType.getMethod("create", List.class, List.class)
+                .invoke(null, annotations(), fields());
+            Object type = eventFactoryType.getMethod("getEventType").invoke(factory);
+
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            isEnabled = lookup.findVirtual(eventTypeType, "isEnabled", MethodType.methodType(boolean.class)).bindTo(type);
+            newEvent = lookup.findVirtual(eventFactoryType, "newEvent", MethodType.methodType(eventType)).bindTo(factory);
+            set = lookup.findVirtual(eventType, "set", MethodType.methodType(void.class, int.class, Object.class));
+            MethodType voidType = MethodType.methodType(void.class);
+            beginEvent = lookup.findVirtual(eventType, "begin", voidType);
+            endEvent = lookup.findVirtual(eventType, "end", voidType);
+            commitEvent = lookup.findVirtual(eventType, "commit", voidType);
+            initialized = true;
+        }
+
+        private static List<Object> annotations() throws ReflectiveOperationException {
+            Constructor<?> element = Class.forName("jdk.jfr.AnnotationElement").getConstructor(Class.class, Object.class);
+            List<Object> result = new ArrayList<>();
+            result.add(element.newInstance(Class.forName("jdk.jfr.Name"), EVENT_NAME));
+            result.add(element.newInstance(Class.forName("jdk.jfr.Label"), "EqualsVerifier Phase"));
+            result.add(element.newInstance(Class.forName("jdk.jfr.Category"), new String[] { "EqualsVerifier" }));
+            return result;
+        }
+
+        private static List<Object> fields() throws ReflectiveOperationException {
+            Constructor<?> descriptor = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class);
+            List<Object> result = new ArrayList<>();
+            for (String field : FIELDS) {
+                result.add(descriptor.newInstance(String.class, field));
+            }
+            return result;
+        }
+    }
+}
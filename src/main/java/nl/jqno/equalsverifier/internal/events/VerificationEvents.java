@@ -0,0 +1,157 @@
+package nl.jqno.equalsverifier.internal.events;
+
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.VerificationListener.Phase;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends the events of a single verification to its
+ * {@link VerificationListener}s.
+ *
+ * Subjects are only turned into strings, and the clock is only read, if
+ * there is a listener. Without listeners, {@link #NONE} can be used, which
+ * does nothing at all.
+ *
+ * Listeners are told that a phase starts in the order in which they were
+ * added, and that it finishes in the reverse order. The Flight Recorder
+ * listener is added last, so it starts after, and finishes before, any
+ * listener that might throw; that keeps its events paired correctly.
+ */
+public final class VerificationEvents {
+    /** Events of a verification without listeners. */
+    public static final VerificationEvents NONE = new VerificationEvents(Object.class, new VerificationListener[0]);
+
+    private final Class<?> type;
+    private final VerificationListener[] listeners;
+
+    private VerificationEvents(Class<?> type, VerificationListener[] listeners) {
+        this.type = type;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Factory method.
+     *
+     * @param type The class under test.
+     * @param listeners The listeners that receive the events. If a Flight
+     *          Recorder recording is active, {@link FlightRecorderEvents}
+     *          receives them as well.
+     * @return Events for the verification of {@code type}.
+     */
+    public static VerificationEvents of(Class<?> type, List<VerificationListener> listeners) {
+        List<VerificationListener> all = listeners;
+        if (FlightRecorderEvents.isRecording()) {
+            all = new ArrayList<>(listeners);
+            all.add(FlightRecorderEvents.LISTENER);
+        }
+        if (all.isEmpty()) {
+            return NONE;
+        }
+        return new VerificationEvents(type, all.toArray(new VerificationListener[0]));
+    }
+
+    /**
+     * @return Whether there are any listeners.
+     */
+    public boolean isEnabled() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Signals that a phase starts.
+     *
+     * @param phase The phase.
+     * @param subject What the phase works on: a class, a {@link TypeTag}, or
+     *          a check.
+     * @return The start time, to be passed to
+     *          {@link #finished(Phase, Object, long, boolean)}.
+     */
+    public long started(Phase phase, Object subject) {
+        if (!isEnabled()) {
+            return 0L;
+        }
+        String description = describe(subject);
+        for (VerificationListener listener : listeners) {
+            listener.phaseStarted(type, phase, description);
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Signals that a phase that works on a single field starts.
+     *
+     * @param phase The phase.
+     * @param subject The check that works on the field.
+     * @param field The field.
+     * @return The start time, to be passed to
+     *          {@link #finished(Phase, Object, Field, long, boolean)}.
+     */
+    public long started(Phase phase, Object subject, Field field) {
+        if (!isEnabled()) {
+            return 0L;
+        }
+        String description = describe(subject, field);
+        for (VerificationListener listener : listeners) {
+            listener.phaseStarted(type, phase, description);
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Signals that a phase finished.
+     *
+     * @param phase The phase.
+     * @param subject What the phase worked on.
+     * @param startNanos The value returned by {@link #started(Phase, Object)}.
+     * @param successful Whether the phase was successful.
+     */
+    public void finished(Phase phase, Object subject, long startNanos, boolean successful) {
+        if (!isEnabled()) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        String description = describe(subject);
+        for (int i = listeners.length - 1; i >= 0; i -= 1) {
+            listeners[i].phaseFinished(type, phase, description, elapsed, successful);
+        }
+    }
+
+    /**
+     * Signals that a phase that works on a single field finished.
+     *
+     * @param phase The phase.
+     * @param subject The check that worked on the field.
+     * @param field The field.
+     * @param startNanos The value returned by
+     *          {@link #started(Phase, Object, Field)}.
+     * @param successful Whether the phase was successful.
+     */
+    public void finished(Phase phase, Object subject, Field field, long startNanos, boolean successful) {
+        if (!isEnabled()) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        String description = describe(subject, field);
+        for (int i = listeners.length - 1; i >= 0; i -= 1) {
+            listeners[i].phaseFinished(type, phase, description, elapsed, successful);
+        }
+    }
+
+    private static String describe(Object subject, Field field) {
+        return describe(subject) + "." + field.getName();
+    }
+
+    private static String describe(Object subject) {
+        if (subject instanceof Class) {
+            return ((Class<?>)subject).getName();
+        }
+        if (subject instanceof TypeTag) {
+            return subject.toString();
+        }
+        return subject.getClass().getSimpleName();
+    }
+}
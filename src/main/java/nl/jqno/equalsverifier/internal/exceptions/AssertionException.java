@@ -4,14 +4,17 @@ import nl.jqno.equalsverifier.internal.util.Formatter;
 
 /**
  * Signals that an EqualsVerfier assertion has failed.
+ *
+ * Its stack trace is not filled in: it only carries a message to the user,
+ * and can be created many times when failures are collected.
  */
 @SuppressWarnings("serial")
 public class AssertionException extends MessagingException {
     public AssertionException(Formatter message) {
-        super(message.format());
+        super(message.format(), null, false);
     }
 
     public AssertionException(Formatter message, Throwable cause) {
-        super(message.format(), cause);
+        super(message.format(), cause, false);
     }
 }
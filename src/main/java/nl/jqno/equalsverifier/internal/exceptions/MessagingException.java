@@ -24,6 +24,11 @@ public abstract class MessagingException extends RuntimeException {
         this.description = description;
     }
 
+    protected MessagingException(String description, Throwable cause, boolean writableStackTrace) {
+        super(null, cause, true, writableStackTrace);
+        this.description = description;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -1,14 +1,26 @@
 package nl.jqno.equalsverifier.internal.prefabvalues;
 
-import java.util.HashMap;
-import java.util.Map;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * Contains a cache of prefabricated values, for {@link PrefabValues}.
+ *
+ * Values are stored in an array, at the index of their {@link TypeTag}'s id.
+ * Ids are handed out globally, so the array is split into pages that are
+ * only allocated when a value is stored in them. Each value is stored
+ * together with its TypeTag, which keeps the id from being handed out to
+ * another type while the value is in the cache.
+ *
+ * It can be read from several threads at once, for instance when fields are
+ * checked in parallel, but it must only be written to by one thread at a
+ * time. A reader may briefly not see a value that was just added, but never
+ * sees a half-constructed one.
  */
 class Cache {
-    @SuppressWarnings("rawtypes")
-    private final Map<TypeTag, Tuple> cache = new HashMap<>();
+    private static final int PAGE_SIZE = 64;
+
+    @SuppressFBWarnings(value = "VO_VOLATILE_REFERENCE_TO_ARRAY", justification = "A stale element only means a value is not found yet.")
+    private volatile Slot[][] pages = new Slot[0][];
 
     /**
      * Adds a prefabricated value to the cache for the given type.
@@ -19,7 +31,19 @@ class Cache {
      * @param redCopy A shallow copy of the given red value.
      */
     public <T> void put(TypeTag tag, T red, T black, T redCopy) {
-        cache.put(tag, new Tuple<>(red, black, redCopy));
+        int id = tag.getId();
+        int pageIndex = id / PAGE_SIZE;
+        Slot[][] current = pages;
+        if (pageIndex >= current.length) {
+            Slot[][] grown = new Slot[Math.max(pageIndex + 1, 2 * current.length)][];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            current = grown;
+        }
+        if (current[pageIndex] == null) {
+            current[pageIndex] = new Slot[PAGE_SIZE];
+        }
+        current[pageIndex][id % PAGE_SIZE] = new Slot(tag, new Tuple<>(red, black, redCopy));
+        pages = current;
     }
 
     /**
@@ -32,7 +56,7 @@ class Cache {
      */
     @SuppressWarnings("unchecked")
     public <T> Tuple<T> getTuple(TypeTag tag) {
-        return cache.get(tag);
+        return (Tuple<T>)find(tag);
     }
 
     /**
@@ -41,6 +65,27 @@ class Cache {
      * @param tag A description of the type. Takes generics into account.
      */
     public boolean contains(TypeTag tag) {
-        return cache.containsKey(tag);
+        return find(tag) != null;
+    }
+
+    private Tuple<?> find(TypeTag tag) {
+        int id = tag.getId();
+        int pageIndex = id / PAGE_SIZE;
+        Slot[][] current = pages;
+        if (pageIndex >= current.length || current[pageIndex] == null) {
+            return null;
+        }
+        Slot slot = current[pageIndex][id % PAGE_SIZE];
+        return slot == null || !slot.tag.equals(tag) ? null : slot.tuple;
+    }
+
+    private static final class Slot {
+        private final TypeTag tag;
+        private final Tuple<?> tuple;
+
+        private Slot(TypeTag tag, Tuple<?> tuple) {
+            this.tag = tag;
+            this.tuple = tuple;
+        }
     }
 }
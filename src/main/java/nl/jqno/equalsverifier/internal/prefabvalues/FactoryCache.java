@@ -2,19 +2,52 @@ package nl.jqno.equalsverifier.internal.prefabvalues;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
+import java.util.*;
 
 /**
  * Contains a cache of factories, for {@link PrefabValues}.
+ *
+ * The cache consists of a stack of layers, for instance user overrides on
+ * top of configured defaults on top of the Java API factories. Lookups walk
+ * the layers from top to bottom. Layers are shared between caches by
+ * {@link #merge(FactoryCache)}, and are copied only when a cache is changed
+ * after its layers have been shared.
  */
 public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFactory<?>>> {
+    private final List<Layer> layers;
+    private final boolean frozen;
+
     /**
-     * We store Strings instead of Classes, so that the cache can be lazy
-     * and initializers won't be called until the class is actually needed.
+     * Whether the top layer belongs to this cache alone, so it can be changed
+     * in place. Volatile, because merging a shared cache on several threads
+     * at once clears it concurrently.
      */
-    private final Map<String, PrefabValueFactory<?>> cache = new HashMap<>();
+    private volatile boolean ownsTopLayer;
+
+    /**
+     * Constructor. Creates an empty, mutable cache.
+     */
+    public FactoryCache() {
+        this(new ArrayList<>(), false);
+    }
+
+    private FactoryCache(List<Layer> layers, boolean frozen) {
+        this.layers = layers;
+        this.frozen = frozen;
+        this.ownsTopLayer = false;
+    }
+
+    /**
+     * Returns an immutable copy of this cache, which can safely be shared
+     * between threads. Calling {@code put} on the copy throws an
+     * {@link UnsupportedOperationException}.
+     *
+     * @return An immutable copy of this cache.
+     */
+    public FactoryCache freeze() {
+        ownsTopLayer = false;
+        return new FactoryCache(new ArrayList<>(layers), true);
+    }
 
     /**
      * Adds the given factory to the cache and associates it with the given
@@ -23,10 +56,11 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
      * @param <T> The type of the factory.
      * @param type The type to associate with the factory.
      * @param factory The factory to associate with the type.
+     * @throws UnsupportedOperationException If the cache is frozen.
      */
     public <T> void put(Class<?> type, PrefabValueFactory<T> factory) {
         if (type != null) {
-            cache.put(type.getName(), factory);
+            writableTopLayer().put(type, factory);
         }
     }
 
@@ -34,13 +68,18 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
      * Adds the given factory to the cache and associates it with the given
      * type name.
      *
+     * Use this instead of {@link #put(Class, PrefabValueFactory)} for types
+     * that may not be on the classpath, so that they won't be loaded until
+     * they're actually needed.
+     *
      * @param <T> Should match {@code typeName}.
      * @param typeName The fully qualified name of the type.
      * @param factory The factory to associate with {@code typeName}
+     * @throws UnsupportedOperationException If the cache is frozen.
      */
     public <T> void put(String typeName, PrefabValueFactory<T> factory) {
         if (typeName != null) {
-            cache.put(typeName, factory);
+            writableTopLayer().put(typeName, factory);
         }
     }
 
@@ -60,7 +99,13 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
         if (type == null) {
             return null;
         }
-        return (PrefabValueFactory<T>)cache.get(type.getName());
+        for (int i = layers.size() - 1; i >= 0; i -= 1) {
+            PrefabValueFactory<?> result = layers.get(i).get(type);
+            if (result != null) {
+                return (PrefabValueFactory<T>)result;
+            }
+        }
+        return null;
     }
 
     /**
@@ -68,35 +113,101 @@ public class FactoryCache implements Iterable<Map.Entry<String, PrefabValueFacto
      * @return Whether a factory is available for the given type.
      */
     public boolean contains(Class<?> type) {
-        return cache.containsKey(type.getName());
+        return get(type) != null;
     }
 
     /**
      * Returns a new {@code FactoryCache} instance containing the factories
-     * from {@code this} and from the {@code other} cache.
+     * from {@code this} and from the {@code other} cache. Factories from
+     * {@code other} take precedence.
+     *
+     * Neither cache is copied; their layers are shared instead. Changing
+     * either of them afterwards does not affect the result.
      *
      * @param other The other cache
      * @return a new instance containing factories from {@code this} and
      *          {@code other}
      */
     public FactoryCache merge(FactoryCache other) {
-        FactoryCache result = new FactoryCache();
-        copy(result, this);
-        copy(result, other);
-        return result;
+        List<Layer> merged = new ArrayList<>(layers.size() + other.layers.size());
+        merged.addAll(layers);
+        merged.addAll(other.layers);
+        ownsTopLayer = false;
+        other.ownsTopLayer = false;
+        return new FactoryCache(merged, false);
     }
 
-    private void copy(FactoryCache to, FactoryCache from) {
-        for (Map.Entry<String, PrefabValueFactory<?>> entry : from) {
-            to.put(entry.getKey(), entry.getValue());
-        }
+    /**
+     * Returns a key that identifies the current contents of this cache. Two
+     * caches that consist of the same layers have equal keys.
+     *
+     * Afterwards, changes to this cache go into a new layer, so the key
+     * keeps describing the contents it was created for.
+     *
+     * @return A key that identifies the contents of this cache.
+     */
+    /* package protected */ Object contentKey() {
+        ownsTopLayer = false;
+        return new ArrayList<>(layers);
     }
 
     /**
-     * Provides an iterator over all available factories.
+     * Provides an iterator over all available factories. When a type occurs
+     * in more than one layer, only the factory that {@link #get(Class)} would
+     * return is included.
      */
     @Override
     public Iterator<Map.Entry<String, PrefabValueFactory<?>>> iterator() {
-        return cache.entrySet().iterator();
+        Map<String, PrefabValueFactory<?>> result = new LinkedHashMap<>();
+        for (Layer layer : layers) {
+            layer.copyInto(result);
+        }
+        return Collections.unmodifiableMap(result).entrySet().iterator();
+    }
+
+    private Layer writableTopLayer() {
+        if (frozen) {
+            throw new UnsupportedOperationException("This FactoryCache is frozen.");
+        }
+        if (!ownsTopLayer) {
+            layers.add(new Layer());
+            ownsTopLayer = true;
+        }
+        return layers.get(layers.size() - 1);
+    }
+
+    /**
+     * A single layer of factories. Most factories are keyed by {@code Class};
+     * factories for types that may not be on the classpath are keyed by
+     * name, so that they don't need to be loaded.
+     */
+    private static final class Layer {
+        private final Map<Class<?>, PrefabValueFactory<?>> byClass = new HashMap<>();
+        private final Map<String, PrefabValueFactory<?>> byName = new HashMap<>();
+
+        public void put(Class<?> type, PrefabValueFactory<?> factory) {
+            byName.remove(type.getName());
+            byClass.put(type, factory);
+        }
+
+        public void put(String typeName, PrefabValueFactory<?> factory) {
+            byClass.keySet().removeIf(c -> c.getName().equals(typeName));
+            byName.put(typeName, factory);
+        }
+
+        public PrefabValueFactory<?> get(Class<?> type) {
+            PrefabValueFactory<?> result = byClass.get(type);
+            if (result == null && !byName.isEmpty()) {
+                result = byName.get(type.getName());
+            }
+            return result;
+        }
+
+        public void copyInto(Map<String, PrefabValueFactory<?>> result) {
+            for (Map.Entry<Class<?>, PrefabValueFactory<?>> entry : byClass.entrySet()) {
+                result.put(entry.getKey().getName(), entry.getValue());
+            }
+            result.putAll(byName);
+        }
     }
 }
@@ -49,6 +49,9 @@ public final class JavaApiPrefabValues {
 
     private static final Comparator<Object> OBJECT_COMPARATOR = Comparator.comparingInt(Object::hashCode);
 
+    // Must come after the other constants, because building it uses them.
+    private static final FactoryCache SNAPSHOT = buildSnapshot();
+
     private FactoryCache factoryCache;
 
     private enum Dummy { RED, BLACK }
@@ -61,15 +64,23 @@ public final class JavaApiPrefabValues {
     }
 
     /**
-     * Creates a FactoryCache pre-populated with instances of Java API classes
+     * Returns a FactoryCache pre-populated with instances of Java API classes
      * that cannot be instantiated dynamically.
      *
-     * @return A pre-populated {@link FactoryCache}.
+     * The cache is built only once, and is shared by all callers. It is
+     * immutable; use {@link FactoryCache#merge(FactoryCache)} to add more
+     * factories.
+     *
+     * @return A pre-populated, immutable {@link FactoryCache}.
      */
     public static FactoryCache build() {
+        return SNAPSHOT;
+    }
+
+    private static FactoryCache buildSnapshot() {
         FactoryCache result = new FactoryCache();
         new JavaApiPrefabValues(result).addJavaClasses();
-        return result;
+        return result.freeze();
     }
 
     private void addJavaClasses() {
@@ -1,14 +1,16 @@
 package nl.jqno.equalsverifier.internal.prefabvalues;
 
+import nl.jqno.equalsverifier.VerificationListener.Phase;
+import nl.jqno.equalsverifier.internal.events.VerificationEvents;
 import nl.jqno.equalsverifier.internal.exceptions.RecursionException;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.FallbackFactory;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory;
 
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Container and creator of prefabricated instances of objects and classes.
@@ -22,7 +24,9 @@ public class PrefabValues {
 
     private final Cache cache = new Cache();
     private final FactoryCache factoryCache;
+    private final ConcurrentMap<TypeTag, Tuple<?>> sharedCache;
     private final PrefabValueFactory<?> fallbackFactory = new FallbackFactory<>();
+    private final VerificationEvents events;
 
     /**
      * Constructor.
@@ -30,7 +34,35 @@ public class PrefabValues {
      * @param factoryCache The factories that can be used to create values.
      */
     public PrefabValues(FactoryCache factoryCache) {
+        this(factoryCache, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param factoryCache The factories that can be used to create values.
+     * @param sharedPrefabValues A store of values that other verifications
+     *          may have created already, and that values created here are
+     *          added to. May be null, in which case nothing is shared.
+     */
+    public PrefabValues(FactoryCache factoryCache, SharedPrefabValues sharedPrefabValues) {
+        this(factoryCache, sharedPrefabValues, VerificationEvents.NONE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param factoryCache The factories that can be used to create values.
+     * @param sharedPrefabValues A store of values that other verifications
+     *          may have created already, and that values created here are
+     *          added to. May be null, in which case nothing is shared.
+     * @param events Receives an event each time values for a type are
+     *          created.
+     */
+    public PrefabValues(FactoryCache factoryCache, SharedPrefabValues sharedPrefabValues, VerificationEvents events) {
         this.factoryCache = factoryCache;
+        this.sharedCache = sharedPrefabValues == null ? null : sharedPrefabValues.partitionFor(factoryCache);
+        this.events = events;
     }
 
     /**
@@ -86,7 +118,7 @@ public class PrefabValues {
      * @return A tuple of two different values of the given type.
      */
     public <T> Tuple<T> giveTuple(TypeTag tag) {
-        realizeCacheFor(tag, emptyStack());
+        realizeCacheFor(tag, TypeStack.EMPTY);
         return cache.getTuple(tag);
     }
 
@@ -111,7 +143,7 @@ public class PrefabValues {
         if (tuple.getRed() == null) {
             return null;
         }
-        if (type.isArray() && arraysAreDeeplyEqual(tuple.getRed(), value)) {
+        if (type.isArray() && Objects.deepEquals(tuple.getRed(), value)) {
             return tuple.getBlack();
         }
         if (!type.isArray() && tuple.getRed().equals(value)) {
@@ -124,15 +156,6 @@ public class PrefabValues {
         return PRIMITIVE_OBJECT_MAPPER.get(expectedClass) == actualClass;
     }
 
-    private boolean arraysAreDeeplyEqual(Object x, Object y) {
-        // Arrays.deepEquals doesn't accept Object values so we need to wrap them in another array.
-        return Arrays.deepEquals(new Object[] { x }, new Object[] { y });
-    }
-
-    private LinkedHashSet<TypeTag> emptyStack() {
-        return new LinkedHashSet<>();
-    }
-
     /**
      * Makes sure that values for the specified type are present in the cache,
      * but doesn't return them.
@@ -142,14 +165,48 @@ public class PrefabValues {
      *            parameters.
      * @param typeStack Keeps track of recursion in the type.
      */
-    public <T> void realizeCacheFor(TypeTag tag, LinkedHashSet<TypeTag> typeStack) {
+    public <T> void realizeCacheFor(TypeTag tag, TypeStack typeStack) {
         if (!cache.contains(tag)) {
-            Tuple<T> tuple = createTuple(tag, typeStack);
-            addToCache(tag, tuple);
+            realizeMissingCacheFor(tag, typeStack);
         }
     }
 
-    private <T> Tuple<T> createTuple(TypeTag tag, LinkedHashSet<TypeTag> typeStack) {
+    /*
+     * Values are created under a lock, so that threads that check fields in
+     * parallel all get the same values. Creating values for a type often
+     * creates values for other types first; the lock is reentrant, so that's
+     * no problem.
+     */
+    private synchronized void realizeMissingCacheFor(TypeTag tag, TypeStack typeStack) {
+        if (!cache.contains(tag)) {
+            long start = events.started(Phase.PREFAB_VALUES, tag);
+            boolean successful = false;
+            try {
+                Tuple<?> tuple = sharedCache == null ? createTuple(tag, typeStack) : realizeSharedTupleFor(tag, typeStack);
+                addToCache(tag, tuple);
+                successful = true;
+            }
+            finally {
+                events.finished(Phase.PREFAB_VALUES, tag, start, successful);
+            }
+        }
+    }
+
+    private Tuple<?> realizeSharedTupleFor(TypeTag tag, TypeStack typeStack) {
+        Tuple<?> shared = sharedCache.get(tag);
+        if (shared != null) {
+            return shared;
+        }
+
+        // Don't use computeIfAbsent: creating a tuple recursively realizes other
+        // types, which the map doesn't allow. Create it optimistically instead; if
+        // another thread beat us to it, adopt its tuple so everyone uses the same one.
+        Tuple<?> created = createTuple(tag, typeStack);
+        shared = sharedCache.putIfAbsent(tag, created);
+        return shared == null ? created : shared;
+    }
+
+    private <T> Tuple<T> createTuple(TypeTag tag, TypeStack typeStack) {
         if (typeStack.contains(tag)) {
             throw new RecursionException(typeStack);
         }
@@ -0,0 +1,27 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread-safe store of prefabricated values that can be shared between
+ * verifications, so that values for commonly used field types are created
+ * only once.
+ *
+ * Values are partitioned by the contents of the {@link FactoryCache} that
+ * created them, so verifications with different prefab values never see each
+ * other's values.
+ */
+public class SharedPrefabValues {
+    private final ConcurrentMap<Object, ConcurrentMap<TypeTag, Tuple<?>>> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the values that were created with the given factories.
+     *
+     * @param factoryCache The factories that create the values.
+     * @return A concurrent map of values, keyed by type.
+     */
+    /* package protected */ ConcurrentMap<TypeTag, Tuple<?>> partitionFor(FactoryCache factoryCache) {
+        return partitions.computeIfAbsent(factoryCache.contentKey(), k -> new ConcurrentHashMap<>());
+    }
+}
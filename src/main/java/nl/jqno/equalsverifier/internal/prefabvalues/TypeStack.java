@@ -0,0 +1,96 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The types that are being created while prefab values are created, used to
+ * detect recursive data structures.
+ *
+ * A TypeStack is immutable: pushing a type returns a new stack that shares
+ * all existing entries with the old one. This makes pushing a constant-time
+ * operation, no matter how deeply the types are nested. A small bit set of
+ * the {@link TypeTag}s' ids avoids walking the stack for most types that
+ * aren't on it.
+ */
+public final class TypeStack {
+    /**
+     * A stack without any types.
+     */
+    public static final TypeStack EMPTY = new TypeStack(null, null, 0L, 0);
+
+    private final TypeTag top;
+    private final TypeStack rest;
+    private final long bloom;
+    private final int size;
+
+    private TypeStack(TypeTag top, TypeStack rest, long bloom, int size) {
+        this.top = top;
+        this.rest = rest;
+        this.bloom = bloom;
+        this.size = size;
+    }
+
+    /**
+     * Returns a stack with the given type on top of the types in this stack.
+     * If the type is already on this stack, this stack is returned instead.
+     *
+     * @param tag The type to push.
+     * @return A stack that contains the given type.
+     */
+    public TypeStack push(TypeTag tag) {
+        if (contains(tag)) {
+            return this;
+        }
+        return new TypeStack(tag, this, bloom | bitFor(tag), size + 1);
+    }
+
+    /**
+     * @param tag The type to look for.
+     * @return Whether the given type is on this stack.
+     */
+    public boolean contains(TypeTag tag) {
+        if ((bloom & bitFor(tag)) == 0L) {
+            return false;
+        }
+        for (TypeStack s = this; s.top != null; s = s.rest) {
+            if (s.top.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether this stack contains no types.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return The types on this stack, in the order in which they were pushed.
+     */
+    public List<TypeTag> toList() {
+        TypeTag[] result = new TypeTag[size];
+        int i = size;
+        for (TypeStack s = this; s.top != null; s = s.rest) {
+            i -= 1;
+            result[i] = s.top;
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static long bitFor(TypeTag tag) {
+        return Long.rotateLeft(1L, tag.getId());
+    }
+}
@@ -2,15 +2,24 @@ package nl.jqno.equalsverifier.internal.prefabvalues;
 
 import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierBugException;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.*;
 import java.util.*;
-
-import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Represents a generic type, including raw type and generic type parameters.
  *
  * If the type is not generic, the genericTypes list will be empty.
+ *
+ * Each distinct type is interned: it gets a small integer id that is shared
+ * by all equal TypeTags. That makes {@link #equals(Object)} and
+ * {@link #hashCode()} constant-time, and lets {@link Cache} store its values
+ * in an array indexed by that id. Once the classes of a type are unloaded,
+ * its id is handed out again, so ids stay dense.
  */
 public final class TypeTag {
     /**
@@ -20,6 +29,8 @@ public final class TypeTag {
 
     private final Class<?> type;
     private final List<TypeTag> genericTypes;
+    private final int id;
+    private volatile ConcurrentMap<Field, TypeTag> resolvedFields;
 
     /**
      * Constructor.
@@ -37,19 +48,38 @@ public final class TypeTag {
         }
         this.type = type;
         this.genericTypes = genericTypes;
+        this.id = Ids.of(type, genericTypes);
     }
 
     /**
      * Resolves a TypeTag from the type of a {@link Field} instance, using an
      * enclosing type to determine any generic parameters the field may contain.
      *
+     * The result is remembered by the enclosing TypeTag instance, so
+     * resolving the same field again with the same instance is cheap.
+     *
      * @param field The field to resolve.
      * @param enclosingType The type that contains the field, used to determine
      *                      any generic parameters it may contain.
      * @return The TypeTag for the given field.
      */
     public static TypeTag of(Field field, TypeTag enclosingType) {
-        return resolve(field.getGenericType(), enclosingType, false);
+        if (enclosingType == NULL) {
+            // NULL lives forever; remembering fields in it would keep their classes from being unloaded.
+            return resolve(field.getGenericType(), enclosingType, false);
+        }
+
+        ConcurrentMap<Field, TypeTag> resolved = enclosingType.resolvedFields;
+        if (resolved == null) {
+            // If two threads get here at once, one map is lost. That's fine; it's only a cache.
+            resolved = new ConcurrentHashMap<>();
+            enclosingType.resolvedFields = resolved;
+        }
+        TypeTag result = resolved.get(field);
+        if (result == null) {
+            result = resolved.computeIfAbsent(field, f -> resolve(f.getGenericType(), enclosingType, false));
+        }
+        return result;
     }
 
     private static TypeTag resolve(Type type, TypeTag enclosingType, boolean shortCircuitRecursiveTypeBound) {
@@ -87,8 +117,7 @@ public final class TypeTag {
 
     private static TypeTag processGenericArray(GenericArrayType type, TypeTag enclosingType) {
         TypeTag tag = resolve(type.getGenericComponentType(), enclosingType, false);
-        String arrayTypeName = "[L" + tag.getType().getName() + ";";
-        Class<?> arrayType = classForName(arrayTypeName);
+        Class<?> arrayType = Array.newInstance(tag.getType(), 0).getClass();
         return new TypeTag(arrayType, tag.getGenericTypes());
     }
 
@@ -105,10 +134,9 @@ public final class TypeTag {
 
     private static TypeTag processTypeVariable(TypeVariable<?> type, TypeTag enclosingType,
                 boolean shortCircuitRecursiveTypeBound) {
-        Map<String, TypeTag> typeVariableLookup = buildLookup(enclosingType);
-        String typeVariableName = type.getName();
-        if (typeVariableLookup.containsKey(typeVariableName)) {
-            return typeVariableLookup.get(typeVariableName);
+        TypeTag result = lookup(type.getName(), enclosingType);
+        if (result != null) {
+            return result;
         }
         for (Type b : type.getBounds()) {
             if (!shortCircuitRecursiveTypeBound) {
@@ -118,19 +146,18 @@ public final class TypeTag {
         return new TypeTag(Object.class);
     }
 
-    private static Map<String, TypeTag> buildLookup(TypeTag enclosingType) {
-        TypeVariable<?>[] typeParameters = enclosingType.getType().getTypeParameters();
-        Map<String, TypeTag> lookup = new HashMap<>();
-        if (enclosingType.getGenericTypes().size() == 0) {
-            return lookup;
+    private static TypeTag lookup(String typeVariableName, TypeTag enclosingType) {
+        if (enclosingType.genericTypes.size() == 0) {
+            return null;
         }
 
+        TypeVariable<?>[] typeParameters = enclosingType.getType().getTypeParameters();
         for (int i = 0; i < typeParameters.length; i++) {
-            String name = typeParameters[i].getName();
-            TypeTag tag = enclosingType.getGenericTypes().get(i);
-            lookup.put(name, tag);
+            if (typeParameters[i].getName().equals(typeVariableName)) {
+                return enclosingType.genericTypes.get(i);
+            }
         }
-        return lookup;
+        return null;
     }
 
     /**
@@ -149,6 +176,35 @@ public final class TypeTag {
         return Collections.unmodifiableList(genericTypes);
     }
 
+    /**
+     * @return The id that this TypeTag shares with all TypeTags that are
+     *          equal to it.
+     */
+    /* package protected */ int getId() {
+        return id;
+    }
+
+    /**
+     * @return The number of types that currently have an id.
+     */
+    /* package protected */ static int idCount() {
+        return Ids.size();
+    }
+
+    /**
+     * @return One more than the highest id that has been handed out so far.
+     */
+    /* package protected */ static int idCapacity() {
+        return Ids.capacity();
+    }
+
+    private void collectClasses(Set<Class<?>> classes) {
+        classes.add(type);
+        for (TypeTag tag : genericTypes) {
+            tag.collectClasses(classes);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -157,8 +213,7 @@ public final class TypeTag {
         if (!(obj instanceof TypeTag)) {
             return false;
         }
-        TypeTag other = (TypeTag)obj;
-        return type.equals(other.type) && genericTypes.equals(other.genericTypes);
+        return id == ((TypeTag)obj).id;
     }
 
     /**
@@ -166,10 +221,7 @@ public final class TypeTag {
      */
     @Override
     public int hashCode() {
-        int result = 37;
-        result = (59 * result) + type.hashCode();
-        result = (59 * result) + genericTypes.hashCode();
-        return result;
+        return id;
     }
 
     /**
@@ -194,4 +246,170 @@ public final class TypeTag {
     }
 
     private static final class NullType {}
+
+    /**
+     * Hands out the ids. Equal types get the same id for as long as a TypeTag
+     * for them can exist.
+     *
+     * The table refers to the classes in each type only weakly. A TypeTag
+     * refers to all of them strongly, so once one of them has been unloaded,
+     * no TypeTag for that type can exist anymore. Its entry is then removed,
+     * and its id is handed out again. That keeps both the table and the ids
+     * bounded by the number of types that are still in use, so {@link Cache}'s
+     * arrays stay small too, even when classes are loaded over and over in
+     * fresh class loaders.
+     */
+    private static final class Ids {
+        private static final ConcurrentMap<Key, Entry> ENTRIES = new ConcurrentHashMap<>();
+        private static final ReferenceQueue<Class<?>> UNLOADED = new ReferenceQueue<>();
+        private static final Deque<Integer> FREE = new ArrayDeque<>();
+        private static int next = 0;
+
+        private Ids() {}
+
+        public static int of(Class<?> type, List<TypeTag> genericTypes) {
+            int[] parameterIds = new int[genericTypes.size()];
+            for (int i = 0; i < parameterIds.length; i += 1) {
+                parameterIds[i] = genericTypes.get(i).id;
+            }
+            Key key = new Key(type, parameterIds);
+
+            Entry entry = ENTRIES.get(key);
+            if (entry != null && entry.isAlive()) {
+                return entry.id;
+            }
+            return register(key, genericTypes);
+        }
+
+        public static synchronized int size() {
+            expunge();
+            return ENTRIES.size();
+        }
+
+        public static synchronized int capacity() {
+            return next;
+        }
+
+        private static synchronized int register(Key key, List<TypeTag> genericTypes) {
+            expunge();
+            Entry existing = ENTRIES.get(key);
+            if (existing != null) {
+                if (existing.isAlive()) {
+                    return existing.id;
+                }
+                // One of its classes is gone, but the queue hasn't caught up yet.
+                remove(existing);
+            }
+
+            int id = FREE.isEmpty() ? next : FREE.pop();
+            if (id == next) {
+                next += 1;
+            }
+            Set<Class<?>> classes = Collections.newSetFromMap(new IdentityHashMap<>());
+            classes.add(key.raw());
+            for (TypeTag tag : genericTypes) {
+                tag.collectClasses(classes);
+            }
+            Entry entry = new Entry(id, key.stored(), classes);
+            ENTRIES.put(entry.key, entry);
+            return id;
+        }
+
+        private static void expunge() {
+            Reference<? extends Class<?>> ref = UNLOADED.poll();
+            while (ref != null) {
+                remove(((ClassRef)ref).entry);
+                ref = UNLOADED.poll();
+            }
+        }
+
+        private static void remove(Entry entry) {
+            if (!entry.removed) {
+                entry.removed = true;
+                ENTRIES.remove(entry.key, entry);
+                FREE.push(entry.id);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final int id;
+        private final Key key;
+        private final List<ClassRef> refs = new ArrayList<>();
+        private boolean removed = false;
+
+        private Entry(int id, Key key, Set<Class<?>> classes) {
+            this.id = id;
+            this.key = key;
+            for (Class<?> c : classes) {
+                refs.add(new ClassRef(c, this));
+            }
+        }
+
+        private boolean isAlive() {
+            for (ClassRef ref : refs) {
+                if (ref.get() == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class ClassRef extends WeakReference<Class<?>> {
+        private final Entry entry;
+
+        private ClassRef(Class<?> referent, Entry entry) {
+            super(referent, Ids.UNLOADED);
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * A raw type and the ids of its generic type parameters. Keys that are
+     * used for lookups refer to the raw type strongly; keys in the table refer
+     * to it weakly.
+     */
+    private static final class Key {
+        private final Object raw;
+        private final int[] parameterIds;
+        private final int hash;
+
+        private Key(Class<?> raw, int[] parameterIds) {
+            this(raw, parameterIds, 31 * System.identityHashCode(raw) + Arrays.hashCode(parameterIds));
+        }
+
+        private Key(Object raw, int[] parameterIds, int hash) {
+            this.raw = raw;
+            this.parameterIds = parameterIds;
+            this.hash = hash;
+        }
+
+        private Key stored() {
+            return new Key(new WeakReference<>(raw()), parameterIds, hash);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Class<?> raw() {
+            return raw instanceof Class ? (Class<?>)raw : ((WeakReference<Class<?>>)raw).get();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key)obj;
+            Class<?> c = raw();
+            return c != null && c == other.raw() && Arrays.equals(parameterIds, other.parameterIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -2,9 +2,9 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
-import java.util.LinkedHashSet;
 import java.util.function.Function;
 
 public class CopyFactory<T, S> extends AbstractGenericFactory<T> {
@@ -17,10 +17,10 @@ public class CopyFactory<T, S> extends AbstractGenericFactory<T> {
     }
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack stack = typeStack.push(tag);
         TypeTag sourceTag = copyGenericTypesInto(source, tag);
-        prefabValues.realizeCacheFor(sourceTag, clone);
+        prefabValues.realizeCacheFor(sourceTag, stack);
 
         S redSource = prefabValues.giveRed(sourceTag);
         S blackSource = prefabValues.giveBlack(sourceTag);
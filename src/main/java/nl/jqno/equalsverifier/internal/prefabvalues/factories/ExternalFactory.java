@@ -3,11 +3,11 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.prefabvalues.factoryproviders.FactoryProvider;
 import nl.jqno.equalsverifier.internal.reflection.ConditionalInstantiator;
 
-import java.util.LinkedHashSet;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.classes;
 import static nl.jqno.equalsverifier.internal.reflection.Util.objects;
@@ -16,21 +16,25 @@ public class ExternalFactory<T> implements PrefabValueFactory<T> {
     private static final String EXTERNAL_FACTORIES_PACKAGE = "nl.jqno.equalsverifier.internal.prefabvalues.factoryproviders.";
 
     private final String factoryName;
-    private FactoryCache factoryCache;
+    private volatile FactoryCache factoryCache;
 
     public ExternalFactory(String factoryName) {
         this.factoryName = EXTERNAL_FACTORIES_PACKAGE + factoryName;
     }
 
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        if (factoryCache == null) {
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        FactoryCache cache = factoryCache;
+        if (cache == null) {
+            // Instances are shared between concurrent verifications. Racing threads
+            // may each build a cache, but they're equivalent, so any one of them will do.
             ConditionalInstantiator ci = new ConditionalInstantiator(factoryName);
             FactoryProvider provider = ci.instantiate(classes(), objects());
-            factoryCache = provider.getFactoryCache();
+            cache = provider.getFactoryCache();
+            factoryCache = cache;
         }
 
-        PrefabValueFactory<T> factory = factoryCache.get(tag.getType());
+        PrefabValueFactory<T> factory = cache.get(tag.getType());
         return factory.createValues(tag, prefabValues, typeStack);
     }
 }
@@ -2,6 +2,7 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
 import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
@@ -9,7 +10,6 @@ import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.LinkedHashSet;
 
 /**
  * Implementation of {@link PrefabValueFactory} that instantiates types
@@ -20,20 +20,18 @@ import java.util.LinkedHashSet;
  */
 public class FallbackFactory<T> implements PrefabValueFactory<T> {
     @Override
-    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-        @SuppressWarnings("unchecked")
-        LinkedHashSet<TypeTag> clone = (LinkedHashSet<TypeTag>)typeStack.clone();
-        clone.add(tag);
+    public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+        TypeStack stack = typeStack.push(tag);
 
         Class<T> type = tag.getType();
         if (type.isEnum()) {
             return giveEnumInstances(tag);
         }
         if (type.isArray()) {
-            return giveArrayInstances(tag, prefabValues, clone);
+            return giveArrayInstances(tag, prefabValues, stack);
         }
 
-        traverseFields(tag, prefabValues, clone);
+        traverseFields(tag, prefabValues, stack);
         return giveInstances(tag, prefabValues);
     }
 
@@ -52,7 +50,7 @@ public class FallbackFactory<T> implements PrefabValueFactory<T> {
     }
 
     @SuppressWarnings("unchecked")
-    private Tuple<T> giveArrayInstances(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
+    private Tuple<T> giveArrayInstances(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
         Class<T> type = tag.getType();
         Class<?> componentType = type.getComponentType();
         TypeTag componentTag = new TypeTag(componentType);
@@ -68,7 +66,7 @@ public class FallbackFactory<T> implements PrefabValueFactory<T> {
         return new Tuple<>(red, black, redCopy);
     }
 
-    private void traverseFields(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
+    private void traverseFields(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
         Class<?> type = tag.getType();
         for (Field field : FieldIterable.of(type)) {
             int modifiers = field.getModifiers();
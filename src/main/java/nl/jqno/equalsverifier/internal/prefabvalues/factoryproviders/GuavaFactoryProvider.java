@@ -4,6 +4,7 @@ import com.google.common.collect.*;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.AbstractGenericFactory;
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.EnumMapFactory;
@@ -120,10 +121,10 @@ public final class GuavaFactoryProvider implements FactoryProvider {
         }
 
         @Override
-        public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-            LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-            TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
-            TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone);
+        public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+            TypeStack stack = typeStack.push(tag);
+            TypeTag keyTag = determineAndCacheActualTypeTag(0, tag, prefabValues, stack);
+            TypeTag valueTag = determineAndCacheActualTypeTag(1, tag, prefabValues, stack);
 
             T red = factory.get();
             T black = factory.get();
@@ -145,11 +146,11 @@ public final class GuavaFactoryProvider implements FactoryProvider {
         }
 
         @Override
-        public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, LinkedHashSet<TypeTag> typeStack) {
-            LinkedHashSet<TypeTag> clone = cloneWith(typeStack, tag);
-            TypeTag columnTag = determineAndCacheActualTypeTag(0, tag, prefabValues, clone);
-            TypeTag rowTag = determineAndCacheActualTypeTag(1, tag, prefabValues, clone);
-            TypeTag valueTag = determineAndCacheActualTypeTag(2, tag, prefabValues, clone);
+        public Tuple<T> createValues(TypeTag tag, PrefabValues prefabValues, TypeStack typeStack) {
+            TypeStack stack = typeStack.push(tag);
+            TypeTag columnTag = determineAndCacheActualTypeTag(0, tag, prefabValues, stack);
+            TypeTag rowTag = determineAndCacheActualTypeTag(1, tag, prefabValues, stack);
+            TypeTag valueTag = determineAndCacheActualTypeTag(2, tag, prefabValues, stack);
 
             T red = factory.get();
             T black = factory.get();
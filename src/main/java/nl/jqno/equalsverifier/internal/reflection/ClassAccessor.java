@@ -1,13 +1,11 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
-import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
 import nl.jqno.equalsverifier.internal.reflection.annotations.NonnullAnnotationVerifier;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Set;
 
 /**
@@ -57,13 +55,7 @@ public class ClassAccessor<T> {
      * @return True if T declares the field.
      */
     public boolean declaresField(Field field) {
-        try {
-            type.getDeclaredField(field.getName());
-            return true;
-        }
-        catch (NoSuchFieldException e) {
-            return false;
-        }
+        return ClassModel.of(type).declaresField(field.getName());
     }
 
     /**
@@ -72,7 +64,7 @@ public class ClassAccessor<T> {
      * @return True if T has an {@code equals} method.
      */
     public boolean declaresEquals() {
-        return declaresMethod("equals", Object.class);
+        return ClassModel.of(type).declaresEquals();
     }
 
     /**
@@ -81,17 +73,7 @@ public class ClassAccessor<T> {
      * @return True if T has an {@code hashCode} method.
      */
     public boolean declaresHashCode() {
-        return declaresMethod("hashCode");
-    }
-
-    private boolean declaresMethod(String name, Class<?>... parameterTypes) {
-        try {
-            type.getDeclaredMethod(name, parameterTypes);
-            return true;
-        }
-        catch (NoSuchMethodException e) {
-            return false;
-        }
+        return ClassModel.of(type).declaresHashCode();
     }
 
     /**
@@ -100,7 +82,7 @@ public class ClassAccessor<T> {
      * @return True if T's {@code equals} method is abstract.
      */
     public boolean isEqualsAbstract() {
-        return isMethodAbstract("equals", Object.class);
+        return ClassModel.of(type).isEqualsAbstract();
     }
 
     /**
@@ -109,16 +91,7 @@ public class ClassAccessor<T> {
      * @return True if T's {@code hashCode} method is abstract.
      */
     public boolean isHashCodeAbstract() {
-        return isMethodAbstract("hashCode");
-    }
-
-    private boolean isMethodAbstract(String name, Class<?>... parameterTypes) {
-        try {
-            return Modifier.isAbstract(type.getMethod(name, parameterTypes).getModifiers());
-        }
-        catch (NoSuchMethodException e) {
-            throw new ReflectionException("Should never occur (famous last words)");
-        }
+        return ClassModel.of(type).isHashCodeAbstract();
     }
 
     /**
@@ -130,16 +103,25 @@ public class ClassAccessor<T> {
      *          superclasses (except {@link Object}).
      */
     public boolean isEqualsInheritedFromObject() {
-        ClassAccessor<? super T> i = this;
-        while (i.getType() != Object.class) {
-            if (i.declaresEquals() && !i.isEqualsAbstract()) {
+        if (type == Object.class) {
+            return true;
+        }
+        if (declaresEqualsConcretely(type)) {
+            return false;
+        }
+        for (Class<?> superclass : ClassModel.of(type).getSuperclasses()) {
+            if (declaresEqualsConcretely(superclass)) {
                 return false;
             }
-            i = i.getSuperAccessor();
         }
         return true;
     }
 
+    private static boolean declaresEqualsConcretely(Class<?> c) {
+        ClassModel model = ClassModel.of(c);
+        return model.declaresEquals() && !model.isEqualsAbstract();
+    }
+
     /**
      * Returns an accessor for T's superclass.
      *
@@ -0,0 +1,295 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable summary of the reflective metadata of a class that
+ * EqualsVerifier needs over and over again: its fields, its superclasses,
+ * and some facts about its {@code equals} and {@code hashCode} methods.
+ *
+ * Models are computed once per class and shared by all verifications, so
+ * that {@code getDeclaredFields} and friends are called only once. The
+ * {@link Field} instances are shared as well, so once one of them has been
+ * made accessible, it stays accessible, and each field gets only one
+ * {@link FieldHandle}.
+ */
+public final class ClassModel {
+    private static final ClassValue<ClassModel> MODELS = new ClassValue<ClassModel>() {
+        @Override
+        protected ClassModel computeValue(Class<?> type) {
+            return new ClassModel(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final List<Field> declaredFields;
+    private final List<Field> allFields;
+    private final Set<String> declaredFieldNames;
+    private final List<Class<?>> superclasses;
+    private final boolean isFinal;
+    private final boolean declaresEquals;
+    private final boolean declaresHashCode;
+    private final Method equalsMethod;
+    private final Method hashCodeMethod;
+    private final List<Field> instanceFields;
+    private final int declaredInstanceFieldCount;
+    private final ConcurrentMap<Field, FieldHandle> handles = new ConcurrentHashMap<>();
+    private volatile List<FieldHandle> instanceFieldHandles;
+
+    private ClassModel(Class<?> type) {
+        this.type = type;
+        this.declaredFields = Collections.unmodifiableList(findDeclaredFields(type));
+        this.declaredFieldNames = Collections.unmodifiableSet(collectNames(declaredFields));
+        this.superclasses = Collections.unmodifiableList(findSuperclasses(type));
+        this.allFields = Collections.unmodifiableList(collectAllFields(declaredFields, superclasses));
+        this.instanceFields = Collections.unmodifiableList(findInstanceFields(allFields));
+        this.declaredInstanceFieldCount = findInstanceFields(declaredFields).size();
+        this.isFinal = Modifier.isFinal(type.getModifiers());
+        this.declaresEquals = declaresMethod(type, "equals", Object.class);
+        this.declaresHashCode = declaresMethod(type, "hashCode");
+        this.equalsMethod = findPublicMethod(type, "equals", Object.class);
+        this.hashCodeMethod = findPublicMethod(type, "hashCode");
+    }
+
+    /**
+     * Factory method. Returns the model for the given class, computing it
+     * the first time the class is requested.
+     *
+     * @param type The class to get the model for.
+     * @return The model for {@code type}.
+     */
+    public static ClassModel of(Class<?> type) {
+        return MODELS.get(type);
+    }
+
+    /**
+     * @return The class that this model describes.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the fields declared in the class itself, excluding synthetic
+     * fields.
+     *
+     * @return An unmodifiable list of the declared fields.
+     */
+    public List<Field> getDeclaredFields() {
+        return declaredFields;
+    }
+
+    /**
+     * Returns the fields declared in the class and in all of its
+     * superclasses, excluding synthetic fields. The class's own fields come
+     * first, followed by those of its superclasses, nearest first.
+     *
+     * @return An unmodifiable list of all fields.
+     */
+    public List<Field> getAllFields() {
+        return allFields;
+    }
+
+    /**
+     * Returns the non-static fields of the class and its superclasses, in the
+     * same order as {@link #getAllFields()}. These are the fields that are
+     * copied and scrambled.
+     *
+     * @return An unmodifiable list of instance fields.
+     */
+    public List<Field> getInstanceFields() {
+        return instanceFields;
+    }
+
+    /**
+     * @return How many of the fields in {@link #getInstanceFields()} are
+     *          declared in the class itself; they come first in the list.
+     */
+    public int getDeclaredInstanceFieldCount() {
+        return declaredInstanceFieldCount;
+    }
+
+    /**
+     * Returns a handle for each field in {@link #getInstanceFields()}, in the
+     * same order. The handles are created the first time they are needed.
+     *
+     * @return An unmodifiable list of handles.
+     */
+    public List<FieldHandle> getInstanceFieldHandles() {
+        List<FieldHandle> result = instanceFieldHandles;
+        if (result == null) {
+            List<FieldHandle> list = new ArrayList<>(instanceFields.size());
+            for (Field field : instanceFields) {
+                list.add(of(field.getDeclaringClass()).handleFor(field));
+            }
+            result = Collections.unmodifiableList(list);
+            instanceFieldHandles = result;
+        }
+        return result;
+    }
+
+    /**
+     * Determines whether the class itself declares a field with the given
+     * name.
+     *
+     * @param name The name of the field.
+     * @return True if the class declares a field with the given name.
+     */
+    public boolean declaresField(String name) {
+        return declaredFieldNames.contains(name);
+    }
+
+    /**
+     * Returns a handle to read and write the given field, creating it the
+     * first time the field is requested.
+     *
+     * @param field A field declared by the class.
+     * @return A handle for {@code field}.
+     */
+    public FieldHandle handleFor(Field field) {
+        return handles.computeIfAbsent(field, f -> FieldAccessBackend.current().handleFor(f));
+    }
+
+    /**
+     * Returns the superclasses of the class, nearest first, excluding the
+     * class itself and {@link Object}.
+     *
+     * @return An unmodifiable list of superclasses.
+     */
+    public List<Class<?>> getSuperclasses() {
+        return superclasses;
+    }
+
+    /**
+     * @return Whether the class is final.
+     */
+    public boolean isFinal() {
+        return isFinal;
+    }
+
+    /**
+     * @return Whether the class itself declares an {@code equals} method.
+     */
+    public boolean declaresEquals() {
+        return declaresEquals;
+    }
+
+    /**
+     * @return Whether the class itself declares a {@code hashCode} method.
+     */
+    public boolean declaresHashCode() {
+        return declaresHashCode;
+    }
+
+    /**
+     * @return Whether the class's {@code equals} method, whether declared or
+     *          inherited, is abstract.
+     */
+    public boolean isEqualsAbstract() {
+        return Modifier.isAbstract(modifiersOf(equalsMethod, "equals"));
+    }
+
+    /**
+     * @return Whether the class's {@code hashCode} method, whether declared
+     *          or inherited, is abstract.
+     */
+    public boolean isHashCodeAbstract() {
+        return Modifier.isAbstract(modifiersOf(hashCodeMethod, "hashCode"));
+    }
+
+    /**
+     * @return Whether the class's {@code equals} method, whether declared or
+     *          inherited, is final.
+     */
+    public boolean isEqualsFinal() {
+        return Modifier.isFinal(modifiersOf(equalsMethod, "equals"));
+    }
+
+    /**
+     * @return Whether the class's {@code hashCode} method, whether declared
+     *          or inherited, is final.
+     */
+    public boolean isHashCodeFinal() {
+        return Modifier.isFinal(modifiersOf(hashCodeMethod, "hashCode"));
+    }
+
+    private int modifiersOf(Method method, String methodName) {
+        if (method == null) {
+            throw new ReflectionException("Should never occur: cannot find " + type.getName() + "." + methodName);
+        }
+        return method.getModifiers();
+    }
+
+    private static List<Field> findDeclaredFields(Class<?> type) {
+        List<Field> result = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!field.isSynthetic() && !"__cobertura_counters".equals(field.getName())) {
+                result.add(field);
+            }
+        }
+        return result;
+    }
+
+    private static List<Field> findInstanceFields(List<Field> fields) {
+        List<Field> result = new ArrayList<>();
+        for (Field field : fields) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                result.add(field);
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> collectNames(List<Field> fields) {
+        Set<String> result = new HashSet<>();
+        for (Field field : fields) {
+            result.add(field.getName());
+        }
+        return result;
+    }
+
+    private static List<Class<?>> findSuperclasses(Class<?> type) {
+        Class<?> superclass = type.getSuperclass();
+        if (superclass == null || superclass.equals(Object.class)) {
+            return new ArrayList<>();
+        }
+        List<Class<?>> result = new ArrayList<>();
+        result.add(superclass);
+        result.addAll(of(superclass).getSuperclasses());
+        return result;
+    }
+
+    private static List<Field> collectAllFields(List<Field> declaredFields, List<Class<?>> superclasses) {
+        List<Field> result = new ArrayList<>(declaredFields);
+        for (Class<?> superclass : superclasses) {
+            result.addAll(of(superclass).getDeclaredFields());
+        }
+        return result;
+    }
+
+    private static boolean declaresMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            type.getDeclaredMethod(name, parameterTypes);
+            return true;
+        }
+        catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Method findPublicMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        }
+        catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+/**
+ * The mechanisms with which EqualsVerifier can read and write fields.
+ *
+ * By default, {@link #REFLECTION} is used on Java 8, where reflective
+ * access is already compiled to bytecode after a few calls, and
+ * {@link #METHOD_HANDLES} on later versions. The system property
+ * {@code equalsverifier.fieldAccess} can be set to the name of a backend to
+ * override this, for instance to compare them in a benchmark.
+ */
+public enum FieldAccessBackend {
+    /**
+     * Uses {@link Field#get(Object)}, {@link Field#set(Object, Object)} and
+     * their primitive counterparts.
+     */
+    REFLECTION {
+        @Override
+        public FieldHandle handleFor(Field field) {
+            makeAccessible(field);
+            return new ReflectionFieldHandle(field);
+        }
+    },
+
+    /**
+     * Uses {@link java.lang.invoke.MethodHandle}s that are created once per
+     * field. Falls back to {@link #REFLECTION} for fields that can't be
+     * accessed with a method handle.
+     */
+    METHOD_HANDLES {
+        @Override
+        public FieldHandle handleFor(Field field) {
+            makeAccessible(field);
+            try {
+                return new MethodHandleFieldHandle(field, MethodHandles.lookup());
+            }
+            catch (IllegalAccessException e) {
+                return new ReflectionFieldHandle(field);
+            }
+        }
+    };
+
+    private static final String PROPERTY = "equalsverifier.fieldAccess";
+    private static final FieldAccessBackend CURRENT =
+            select(System.getProperty(PROPERTY), System.getProperty("java.specification.version"));
+
+    /**
+     * Creates a handle for the given field. Makes the field accessible if it
+     * isn't already.
+     *
+     * @param field The field to create a handle for.
+     * @return A handle for {@code field}.
+     */
+    public abstract FieldHandle handleFor(Field field);
+
+    /**
+     * @return The backend that EqualsVerifier uses.
+     */
+    public static FieldAccessBackend current() {
+        return CURRENT;
+    }
+
+    /* package protected */ static FieldAccessBackend select(String name, String javaVersion) {
+        for (FieldAccessBackend backend : values()) {
+            if (backend.name().equalsIgnoreCase(name)) {
+                return backend;
+            }
+        }
+        return "1.8".equals(javaVersion) ? REFLECTION : METHOD_HANDLES;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void makeAccessible(Field field) {
+        if (!field.isAccessible()) {
+            field.setAccessible(true);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
@@ -14,6 +13,7 @@ import java.lang.reflect.Modifier;
 public class FieldAccessor {
     private final Object object;
     private final Field field;
+    private FieldHandle handle;
 
     /**
      * Constructor.
@@ -96,15 +96,8 @@ public class FieldAccessor {
      * @return The field's value.
      * @throws ReflectionException If the operation fails.
      */
-    @SuppressFBWarnings(value = "DP_DO_INSIDE_DO_PRIVILEGED", justification = "Only called in test code, not production.")
     public Object get() {
-        field.setAccessible(true);
-        try {
-            return field.get(object);
-        }
-        catch (IllegalAccessException e) {
-            throw new ReflectionException(e);
-        }
+        return handle().get(object);
     }
 
     /**
@@ -117,7 +110,9 @@ public class FieldAccessor {
      * @throws ReflectionException If the operation fails.
      */
     public void set(Object value) {
-        modify(() -> field.set(object, value), true);
+        if (canBeModified(true)) {
+            handle().set(object, value);
+        }
     }
 
     /**
@@ -127,7 +122,9 @@ public class FieldAccessor {
      * @throws ReflectionException If the operation fails.
      */
     public void defaultField() {
-        modify(this::setFieldToDefault, false);
+        if (canBeModified(false)) {
+            handle().setDefault(object);
+        }
     }
 
     /**
@@ -137,37 +134,8 @@ public class FieldAccessor {
      * @throws ReflectionException If the operation fails.
      */
     public void defaultStaticField() {
-        modify(this::setFieldToDefault, true);
-    }
-
-    private void setFieldToDefault() throws IllegalAccessException {
-        Class<?> type = field.getType();
-        if (type == boolean.class){
-            field.setBoolean(object, false);
-        }
-        else if (type == byte.class) {
-            field.setByte(object, (byte)0);
-        }
-        else if (type == char.class) {
-            field.setChar(object, '\u0000');
-        }
-        else if (type == double.class) {
-            field.setDouble(object, 0.0);
-        }
-        else if (type == float.class) {
-            field.setFloat(object, 0.0f);
-        }
-        else if (type == int.class){
-            field.setInt(object, 0);
-        }
-        else if (type == long.class) {
-            field.setLong(object, 0);
-        }
-        else if (type == short.class) {
-            field.setShort(object, (short)0);
-        }
-        else {
-            field.set(object, null);
+        if (canBeModified(true)) {
+            handle().setDefault(object);
         }
     }
 
@@ -180,7 +148,9 @@ public class FieldAccessor {
      * @throws ReflectionException If the operation fails.
      */
     public void copyTo(Object to) {
-        modify(() -> field.set(to, field.get(object)), false);
+        if (canBeModified(false)) {
+            handle().copy(object, to);
+        }
     }
 
     /**
@@ -196,32 +166,20 @@ public class FieldAccessor {
      * @throws ReflectionException If the operation fails.
      */
     public void changeField(PrefabValues prefabValues, TypeTag enclosingType) {
-        modify(() -> {
-            Object newValue = prefabValues.giveOther(TypeTag.of(field, enclosingType), field.get(object));
-            field.set(object, newValue);
-        }, false);
-    }
-
-    private void modify(FieldModifier modifier, boolean includeStatic) {
-        if (!canBeModifiedReflectively()) {
-            return;
-        }
-        if (!includeStatic && fieldIsStatic()) {
-            return;
+        if (canBeModified(false)) {
+            handle().changeValue(object, prefabValues, TypeTag.of(field, enclosingType));
         }
+    }
 
-        field.setAccessible(true);
-        try {
-            modifier.modify();
-        }
-        catch (IllegalAccessException e) {
-            throw new ReflectionException(e);
-        }
+    private boolean canBeModified(boolean includeStatic) {
+        return canBeModifiedReflectively() && (includeStatic || !fieldIsStatic());
     }
 
-    @FunctionalInterface
-    private interface FieldModifier {
-        void modify() throws IllegalAccessException;
+    private FieldHandle handle() {
+        if (handle == null) {
+            handle = ClassModel.of(field.getDeclaringClass()).handleFor(field);
+        }
+        return handle;
     }
 
     /**
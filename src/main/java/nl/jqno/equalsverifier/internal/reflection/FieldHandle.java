@@ -0,0 +1,109 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+
+/**
+ * Reads and writes one field, on any instance of the class that declares
+ * it. Handles are created once per field by a {@link FieldAccessBackend}
+ * and shared through {@link ClassModel}.
+ *
+ * Handles don't check whether the field should be modified; that's up to
+ * {@link FieldAccessor}.
+ */
+public abstract class FieldHandle {
+    private final boolean primitive;
+    private final Object defaultValue;
+
+    /**
+     * Constructor.
+     *
+     * @param field The field that this handle accesses.
+     */
+    protected FieldHandle(Field field) {
+        Class<?> type = field.getType();
+        this.primitive = type.isPrimitive();
+        this.defaultValue = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+
+    /**
+     * Returns the field's value in the given object.
+     *
+     * @param object The object to read the field from, or null if the field
+     *          is static.
+     * @return The field's value. Primitive values are boxed.
+     */
+    public abstract Object get(Object object);
+
+    /**
+     * Sets the field in the given object to the given value.
+     *
+     * @param object The object to write the field to, or null if the field
+     *          is static.
+     * @param value The new value. Primitive values must be boxed.
+     * @throws IllegalArgumentException If {@code value} does not fit the
+     *          field.
+     */
+    public abstract void set(Object object, Object value);
+
+    /**
+     * Copies the field's value from one object to another. Primitive values
+     * are copied without boxing them.
+     *
+     * @param from The object to read the field from.
+     * @param to The object to write the field to.
+     */
+    public abstract void copy(Object from, Object to);
+
+    /**
+     * Returns whether the field in the given object holds a primitive value
+     * that is equal to the given one, in the sense of the wrapper type's
+     * {@code equals} method. The field's value is not boxed.
+     *
+     * @param object The object to read the field from, or null if the field
+     *          is static.
+     * @param value The boxed value to compare with. Must match the field's
+     *          primitive type.
+     * @return Whether the field holds {@code value}.
+     */
+    protected abstract boolean holdsPrimitive(Object object, Object value);
+
+    /**
+     * Changes the field in the given object to a prefabricated value that is
+     * different from its current value, like
+     * {@link PrefabValues#giveOther(TypeTag, Object)} does.
+     *
+     * For primitive fields, the current value is compared without boxing it,
+     * and the new value is taken from the already boxed prefabricated values,
+     * so nothing is allocated.
+     *
+     * @param object The object to write the field to, or null if the field
+     *          is static.
+     * @param prefabValues Prefabricated values to take the new value from.
+     * @param tag A description of the field's type.
+     */
+    public void changeValue(Object object, PrefabValues prefabValues, TypeTag tag) {
+        if (primitive) {
+            Tuple<?> tuple = prefabValues.giveTuple(tag);
+            set(object, holdsPrimitive(object, tuple.getRed()) ? tuple.getBlack() : tuple.getRed());
+        }
+        else {
+            set(object, prefabValues.giveOther(tag, get(object)));
+        }
+    }
+
+    /**
+     * Sets the field in the given object to its default value: 0, false or
+     * null.
+     *
+     * @param object The object to write the field to, or null if the field
+     *          is static.
+     */
+    public void setDefault(Object object) {
+        set(object, defaultValue);
+    }
+}
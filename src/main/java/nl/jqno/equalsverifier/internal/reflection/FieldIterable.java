@@ -1,9 +1,7 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
 import java.lang.reflect.Field;
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
 
 /**
  * Iterable to iterate over all declared fields in a class and, if needed,
@@ -55,32 +53,7 @@ public final class FieldIterable implements Iterable<Field> {
      */
     @Override
     public Iterator<Field> iterator() {
-        return createFieldList().iterator();
-    }
-
-    private List<Field> createFieldList() {
-        List<Field> result = new ArrayList<>();
-
-        result.addAll(addFieldsFor(type));
-
-        if (includeSuperclasses) {
-            for (Class<?> c : SuperclassIterable.of(type)) {
-                result.addAll(addFieldsFor(c));
-            }
-        }
-
-        return result;
-    }
-
-    private List<Field> addFieldsFor(Class<?> c) {
-        List<Field> result = new ArrayList<>();
-
-        for (Field field : c.getDeclaredFields()) {
-            if (!field.isSynthetic() && !"__cobertura_counters".equals(field.getName())) {
-                result.add(field);
-            }
-        }
-
-        return result;
+        ClassModel model = ClassModel.of(type);
+        return (includeSuperclasses ? model.getAllFields() : model.getDeclaredFields()).iterator();
     }
 }
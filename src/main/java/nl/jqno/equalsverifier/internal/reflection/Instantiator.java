@@ -3,8 +3,10 @@ package nl.jqno.equalsverifier.internal.reflection;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import nl.jqno.equalsverifier.internal.events.FlightRecorderEvents;
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Modifier;
@@ -24,15 +26,39 @@ public final class Instantiator<T> {
             Arrays.asList("java.", "javax.", "sun.", "com.sun.", "org.w3c.dom.");
     private static final String FALLBACK_PACKAGE_NAME = getPackageName(Instantiator.class);
 
+    /*
+     * Objenesis's own cache is keyed by class name, so it can mix up classes
+     * from different class loaders. Instead, the instantiators are cached in
+     * a ClassValue, which lives and dies with the class itself.
+     */
+    private static final Objenesis OBJENESIS = new ObjenesisStd(false);
+    private static final ClassValue<ObjectInstantiator<?>> INSTANTIATORS = new ClassValue<ObjectInstantiator<?>>() {
+        @Override
+        protected ObjectInstantiator<?> computeValue(Class<?> type) {
+            return OBJENESIS.getInstantiatorOf(type);
+        }
+    };
+
+    /*
+     * One holder per superclass. ClassValue may compute a value more than
+     * once when threads race, so the subclass isn't generated in
+     * computeValue itself, but by the single holder that ClassValue hands
+     * out to all threads.
+     */
+    private static final ClassValue<DynamicSubclass> DYNAMIC_SUBCLASSES = new ClassValue<DynamicSubclass>() {
+        @Override
+        protected DynamicSubclass computeValue(Class<?> superclass) {
+            return new DynamicSubclass(superclass);
+        }
+    };
+
     private final Class<T> type;
-    private Objenesis objenesis;
 
     /**
      * Private constructor. Call {@link #of(Class)} to instantiate.
      */
     private Instantiator(Class<T> type) {
         this.type = type;
-        this.objenesis = new ObjenesisStd();
     }
 
     /**
@@ -59,7 +85,7 @@ public final class Instantiator<T> {
      * @return An object of type T.
      */
     public T instantiate() {
-        return objenesis.newInstance(type);
+        return newInstance(type);
     }
 
     /**
@@ -70,11 +96,21 @@ public final class Instantiator<T> {
      */
     public T instantiateAnonymousSubclass() {
         Class<T> proxyClass = giveDynamicSubclass(type);
-        return objenesis.newInstance(proxyClass);
+        return newInstance(proxyClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> S newInstance(Class<S> c) {
+        return (S)INSTANTIATORS.get(c).newInstance();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> Class<S> giveDynamicSubclass(Class<S> superclass) {
+        return (Class<S>)DYNAMIC_SUBCLASSES.get(superclass).get();
     }
 
     @SuppressWarnings("unchecked")
-    private static synchronized <S> Class<S> giveDynamicSubclass(Class<S> superclass) {
+    private static <S> Class<S> generateDynamicSubclass(Class<S> superclass) {
         boolean isSystemClass = isSystemClass(superclass.getName());
 
         String namePrefix = isSystemClass ? FALLBACK_PACKAGE_NAME : getPackageName(superclass);
@@ -85,15 +121,24 @@ public final class Instantiator<T> {
             return existsAlready;
         }
 
-        Class<?> context = isSystemClass ? Instantiator.class : superclass;
-        ClassLoadingStrategy<? super ClassLoader> cs = getClassLoadingStrategy(context);
-        return (Class<S>)new ByteBuddy()
-                .with(TypeValidation.DISABLED)
-                .subclass(superclass)
-                .name(name)
-                .make()
-                .load(context.getClassLoader(), cs)
-                .getLoaded();
+        Object event = FlightRecorderEvents.begin(superclass.getName(), FlightRecorderEvents.DYNAMIC_SUBCLASS, name);
+        boolean successful = false;
+        try {
+            Class<?> context = isSystemClass ? Instantiator.class : superclass;
+            ClassLoadingStrategy<? super ClassLoader> cs = getClassLoadingStrategy(context);
+            Class<S> result = (Class<S>)new ByteBuddy()
+                    .with(TypeValidation.DISABLED)
+                    .subclass(superclass)
+                    .name(name)
+                    .make()
+                    .load(context.getClassLoader(), cs)
+                    .getLoaded();
+            successful = true;
+            return result;
+        }
+        finally {
+            FlightRecorderEvents.end(event, successful);
+        }
     }
 
     private static String getPackageName(Class<?> type) {
@@ -126,4 +171,31 @@ public final class Instantiator<T> {
         }
         return false;
     }
+
+    /**
+     * Generates the dynamic subclass of one superclass, the first time it is
+     * requested. Other superclasses can be generated in parallel.
+     */
+    private static final class DynamicSubclass {
+        private final Class<?> superclass;
+        private volatile Class<?> subclass;
+
+        private DynamicSubclass(Class<?> superclass) {
+            this.superclass = superclass;
+        }
+
+        public Class<?> get() {
+            Class<?> result = subclass;
+            if (result == null) {
+                synchronized (this) {
+                    result = subclass;
+                    if (result == null) {
+                        result = generateDynamicSubclass(superclass);
+                        subclass = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
 }
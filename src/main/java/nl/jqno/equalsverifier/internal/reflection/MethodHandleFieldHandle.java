@@ -0,0 +1,164 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * {@link FieldHandle} that uses {@link MethodHandle}s.
+ *
+ * The handles are adapted to take the object as {@code Object}, so they can
+ * be invoked exactly. {@link #copy(Object, Object)} and
+ * {@link #holdsPrimitive(Object, Object)} use handles of the field's own
+ * type, so primitive values are never boxed.
+ */
+/* package protected */ final class MethodHandleFieldHandle extends FieldHandle {
+    private final Class<?> type;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle typedGetter;
+    private final MethodHandle typedSetter;
+
+    /**
+     * Constructor.
+     *
+     * @param field The field to access. Must be accessible already.
+     * @param lookup The lookup with which to create the handles.
+     * @throws IllegalAccessException If no handles can be created for
+     *          {@code field}.
+     */
+    /* package protected */ MethodHandleFieldHandle(Field field, MethodHandles.Lookup lookup) throws IllegalAccessException {
+        super(field);
+        this.type = field.getType();
+        Class<?> erased = type.isPrimitive() ? type : Object.class;
+
+        MethodHandle get = lookup.unreflectGetter(field);
+        MethodHandle set = lookup.unreflectSetter(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            get = MethodHandles.dropArguments(get, 0, Object.class);
+            set = MethodHandles.dropArguments(set, 0, Object.class);
+        }
+
+        this.typedGetter = get.asType(MethodType.methodType(erased, Object.class));
+        this.typedSetter = set.asType(MethodType.methodType(void.class, Object.class, erased));
+        this.getter = get.asType(MethodType.methodType(Object.class, Object.class));
+        this.setter = set.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    }
+
+    @Override
+    public Object get(Object object) {
+        try {
+            return (Object)getter.invokeExact(object);
+        }
+        catch (ClassCastException e) {
+            throw new IllegalArgumentException(e);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void set(Object object, Object value) {
+        try {
+            setter.invokeExact(object, value);
+        }
+        catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException(e);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void copy(Object from, Object to) {
+        try {
+            copyValue(from, to);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    protected boolean holdsPrimitive(Object object, Object value) {
+        try {
+            return compareValue(object, value);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    // CHECKSTYLE: ignore IllegalThrows for 1 line.
+    private void copyValue(Object from, Object to) throws Throwable {
+        if (!type.isPrimitive()) {
+            typedSetter.invokeExact(to, (Object)typedGetter.invokeExact(from));
+        }
+        else if (type == int.class) {
+            typedSetter.invokeExact(to, (int)typedGetter.invokeExact(from));
+        }
+        else if (type == long.class) {
+            typedSetter.invokeExact(to, (long)typedGetter.invokeExact(from));
+        }
+        else if (type == boolean.class) {
+            typedSetter.invokeExact(to, (boolean)typedGetter.invokeExact(from));
+        }
+        else if (type == double.class) {
+            typedSetter.invokeExact(to, (double)typedGetter.invokeExact(from));
+        }
+        else if (type == float.class) {
+            typedSetter.invokeExact(to, (float)typedGetter.invokeExact(from));
+        }
+        else if (type == char.class) {
+            typedSetter.invokeExact(to, (char)typedGetter.invokeExact(from));
+        }
+        else if (type == byte.class) {
+            typedSetter.invokeExact(to, (byte)typedGetter.invokeExact(from));
+        }
+        else {
+            typedSetter.invokeExact(to, (short)typedGetter.invokeExact(from));
+        }
+    }
+
+    // CHECKSTYLE: ignore IllegalThrows for 1 line.
+    private boolean compareValue(Object object, Object value) throws Throwable {
+        if (type == int.class) {
+            return (int)typedGetter.invokeExact(object) == (Integer)value;
+        }
+        if (type == long.class) {
+            return (long)typedGetter.invokeExact(object) == (Long)value;
+        }
+        if (type == boolean.class) {
+            return (boolean)typedGetter.invokeExact(object) == (Boolean)value;
+        }
+        if (type == double.class) {
+            return Double.doubleToLongBits((double)typedGetter.invokeExact(object)) == Double.doubleToLongBits((Double)value);
+        }
+        if (type == float.class) {
+            return Float.floatToIntBits((float)typedGetter.invokeExact(object)) == Float.floatToIntBits((Float)value);
+        }
+        if (type == char.class) {
+            return (char)typedGetter.invokeExact(object) == (Character)value;
+        }
+        if (type == byte.class) {
+            return (byte)typedGetter.invokeExact(object) == (Byte)value;
+        }
+        return (short)typedGetter.invokeExact(object) == (Short)value;
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException)e;
+        }
+        if (e instanceof Error) {
+            throw (Error)e;
+        }
+        return new ReflectionException(e);
+    }
+}
@@ -4,6 +4,7 @@ import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 
 import java.lang.reflect.Field;
+import java.util.List;
 
 /**
  * Wraps an object to provide reflective access to it. ObjectAccessor can
@@ -112,9 +113,8 @@ public final class ObjectAccessor<T> {
     }
 
     private <S> S copyInto(S copy) {
-        for (Field field : FieldIterable.of(type)) {
-            FieldAccessor accessor = new FieldAccessor(object, field);
-            accessor.copyTo(copy);
+        for (FieldHandle handle : ClassModel.of(type).getInstanceFieldHandles()) {
+            handle.copy(object, copy);
         }
         return copy;
     }
@@ -138,10 +138,8 @@ public final class ObjectAccessor<T> {
      *                      contain.
      */
     public void scramble(PrefabValues prefabValues, TypeTag enclosingType) {
-        for (Field field : FieldIterable.of(type)) {
-            FieldAccessor accessor = new FieldAccessor(object, field);
-            accessor.changeField(prefabValues, enclosingType);
-        }
+        ClassModel model = ClassModel.of(type);
+        scrambleFields(model, model.getInstanceFields().size(), prefabValues, enclosingType);
     }
 
     /**
@@ -163,9 +161,15 @@ public final class ObjectAccessor<T> {
      *                      contain.
      */
     public void shallowScramble(PrefabValues prefabValues, TypeTag enclosingType) {
-        for (Field field : FieldIterable.ofIgnoringSuper(type)) {
-            FieldAccessor accessor = new FieldAccessor(object, field);
-            accessor.changeField(prefabValues, enclosingType);
+        ClassModel model = ClassModel.of(type);
+        scrambleFields(model, model.getDeclaredInstanceFieldCount(), prefabValues, enclosingType);
+    }
+
+    private void scrambleFields(ClassModel model, int fieldCount, PrefabValues prefabValues, TypeTag enclosingType) {
+        List<Field> fields = model.getInstanceFields();
+        List<FieldHandle> handles = model.getInstanceFieldHandles();
+        for (int i = 0; i < fieldCount; i += 1) {
+            handles.get(i).changeValue(object, prefabValues, TypeTag.of(fields.get(i), enclosingType));
         }
     }
 }
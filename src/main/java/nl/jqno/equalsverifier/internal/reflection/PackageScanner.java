@@ -0,0 +1,197 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Finds the classes in a package that declare an {@code equals} method.
+ *
+ * The class files are inspected with ASM, so that classes which don't
+ * declare {@code equals} are never loaded. The classes that do are loaded
+ * lazily while iterating, and are not initialized.
+ */
+public final class PackageScanner implements Iterable<Class<?>> {
+    private static final int OPCODES = Opcodes.ASM7;
+    private static final int READER_FLAGS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+    private static final int SKIPPED_TYPES = Opcodes.ACC_INTERFACE | Opcodes.ACC_ANNOTATION | Opcodes.ACC_ENUM;
+    private static final int SKIPPED_METHODS = Opcodes.ACC_ABSTRACT | Opcodes.ACC_BRIDGE | Opcodes.ACC_SYNTHETIC;
+    private static final String CLASS_SUFFIX = ".class";
+    private static final Pattern ANONYMOUS_OR_LOCAL_CLASS = Pattern.compile(".*\\$[0-9].*");
+
+    private final ClassLoader classLoader;
+    private final List<String> classFiles;
+
+    /**
+     * Private constructor. Call {@link #of(String, boolean)} instead.
+     */
+    private PackageScanner(ClassLoader classLoader, List<String> classFiles) {
+        this.classLoader = classLoader;
+        this.classFiles = classFiles;
+    }
+
+    /**
+     * Factory method. Lists the class files in the given package, without
+     * reading them yet.
+     *
+     * @param packageName The package to scan, for example
+     *          {@code "com.example.domain"}.
+     * @param scanRecursively Whether to include the package's sub-packages.
+     * @return A {@link PackageScanner} for the given package.
+     * @throws ReflectionException If the package cannot be listed.
+     */
+    public static PackageScanner of(String packageName, boolean scanRecursively) {
+        ClassLoader classLoader = getClassLoader();
+        String path = packageName.replace('.', '/');
+        Set<String> classFiles = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(path);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    listDirectory(Paths.get(url.toURI()), path, scanRecursively, classFiles);
+                }
+                else if ("jar".equals(url.getProtocol())) {
+                    listJar(url, path, scanRecursively, classFiles);
+                }
+            }
+        }
+        catch (IOException | URISyntaxException e) {
+            throw new ReflectionException(e);
+        }
+        return new PackageScanner(classLoader, new ArrayList<>(classFiles));
+    }
+
+    /**
+     * Determines whether the package contains any class files at all,
+     * regardless of whether they declare {@code equals}.
+     *
+     * @return true if the package contains at least one class file.
+     */
+    public boolean containsClassFiles() {
+        return !classFiles.isEmpty();
+    }
+
+    /**
+     * Returns an iterator over the classes that declare {@code equals}. Each
+     * class is inspected and loaded only when the iterator reaches it.
+     *
+     * @return An iterator over the classes that declare {@code equals}.
+     */
+    @Override
+    public Iterator<Class<?>> iterator() {
+        Stream<Class<?>> result = classFiles.stream()
+                .filter(this::declaresEquals)
+                .map(this::load);
+        return result.iterator();
+    }
+
+    private static ClassLoader getClassLoader() {
+        ClassLoader result = Thread.currentThread().getContextClassLoader();
+        if (result == null) {
+            result = PackageScanner.class.getClassLoader();
+        }
+        return result;
+    }
+
+    @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_WOULD_HAVE_BEEN_A_NPE", justification = "The null check is generated by try-with-resources.")
+    private static void listDirectory(Path dir, String path, boolean scanRecursively, Set<String> classFiles) throws IOException {
+        int depth = scanRecursively ? Integer.MAX_VALUE : 1;
+        try (Stream<Path> files = Files.walk(dir, depth)) {
+            files.filter(Files::isRegularFile)
+                    .map(p -> path + "/" + dir.relativize(p).toString().replace(File.separatorChar, '/'))
+                    .filter(PackageScanner::isCandidate)
+                    .forEach(classFiles::add);
+        }
+    }
+
+    @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_WOULD_HAVE_BEEN_A_NPE", justification = "The null check is generated by try-with-resources.")
+    private static void listJar(URL url, String path, boolean scanRecursively, Set<String> classFiles) throws IOException {
+        JarURLConnection connection = (JarURLConnection)url.openConnection();
+        connection.setUseCaches(false);
+        String prefix = path + "/";
+        try (JarFile jar = connection.getJarFile()) {
+            for (JarEntry entry : Collections.list(jar.entries())) {
+                String name = entry.getName();
+                boolean inScope = name.startsWith(prefix) &&
+                        (scanRecursively || name.indexOf('/', prefix.length()) < 0);
+                if (inScope && isCandidate(name)) {
+                    classFiles.add(name);
+                }
+            }
+        }
+    }
+
+    private static boolean isCandidate(String classFile) {
+        if (!classFile.endsWith(CLASS_SUFFIX)) {
+            return false;
+        }
+        String simpleName = classFile.substring(classFile.lastIndexOf('/') + 1, classFile.length() - CLASS_SUFFIX.length());
+        return !"package-info".equals(simpleName) &&
+                !"module-info".equals(simpleName) &&
+                !ANONYMOUS_OR_LOCAL_CLASS.matcher(simpleName).matches();
+    }
+
+    private boolean declaresEquals(String classFile) {
+        try (InputStream is = classLoader.getResourceAsStream(classFile)) {
+            EqualsDetector detector = new EqualsDetector();
+            new ClassReader(is).accept(detector, READER_FLAGS);
+            return detector.declaresEquals;
+        }
+        catch (IOException e) {
+            // Just ignore this class if it can't be processed.
+            return false;
+        }
+    }
+
+    private Class<?> load(String classFile) {
+        String className = classFile.substring(0, classFile.length() - CLASS_SUFFIX.length()).replace('/', '.');
+        try {
+            return Class.forName(className, false, classLoader);
+        }
+        catch (ClassNotFoundException e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    private static class EqualsDetector extends ClassVisitor {
+        private boolean skipped = false;
+        private boolean declaresEquals = false;
+
+        public EqualsDetector() {
+            super(OPCODES);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            skipped = (access & SKIPPED_TYPES) != 0;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            boolean isEquals = "equals".equals(name) && "(Ljava/lang/Object;)Z".equals(descriptor);
+            if (isEquals && !skipped && (access & SKIPPED_METHODS) == 0) {
+                declaresEquals = true;
+            }
+            return null;
+        }
+    }
+}
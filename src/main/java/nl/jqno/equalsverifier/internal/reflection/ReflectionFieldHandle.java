@@ -0,0 +1,114 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+
+import java.lang.reflect.Field;
+
+/**
+ * {@link FieldHandle} that uses plain reflection.
+ */
+/* package protected */ final class ReflectionFieldHandle extends FieldHandle {
+    private final Field field;
+
+    /* package protected */ ReflectionFieldHandle(Field field) {
+        super(field);
+        this.field = field;
+    }
+
+    @Override
+    public Object get(Object object) {
+        try {
+            return field.get(object);
+        }
+        catch (IllegalAccessException e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    @Override
+    public void set(Object object, Object value) {
+        try {
+            field.set(object, value);
+        }
+        catch (IllegalAccessException e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    @Override
+    public void copy(Object from, Object to) {
+        try {
+            copyValue(from, to);
+        }
+        catch (IllegalAccessException e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    @Override
+    protected boolean holdsPrimitive(Object object, Object value) {
+        try {
+            return compareValue(object, value);
+        }
+        catch (IllegalAccessException e) {
+            throw new ReflectionException(e);
+        }
+    }
+
+    private void copyValue(Object from, Object to) throws IllegalAccessException {
+        Class<?> type = field.getType();
+        if (!type.isPrimitive()) {
+            field.set(to, field.get(from));
+        }
+        else if (type == int.class) {
+            field.setInt(to, field.getInt(from));
+        }
+        else if (type == long.class) {
+            field.setLong(to, field.getLong(from));
+        }
+        else if (type == boolean.class) {
+            field.setBoolean(to, field.getBoolean(from));
+        }
+        else if (type == double.class) {
+            field.setDouble(to, field.getDouble(from));
+        }
+        else if (type == float.class) {
+            field.setFloat(to, field.getFloat(from));
+        }
+        else if (type == char.class) {
+            field.setChar(to, field.getChar(from));
+        }
+        else if (type == byte.class) {
+            field.setByte(to, field.getByte(from));
+        }
+        else {
+            field.setShort(to, field.getShort(from));
+        }
+    }
+
+    private boolean compareValue(Object object, Object value) throws IllegalAccessException {
+        Class<?> type = field.getType();
+        if (type == int.class) {
+            return field.getInt(object) == (Integer)value;
+        }
+        if (type == long.class) {
+            return field.getLong(object) == (Long)value;
+        }
+        if (type == boolean.class) {
+            return field.getBoolean(object) == (Boolean)value;
+        }
+        if (type == double.class) {
+            return Double.doubleToLongBits(field.getDouble(object)) == Double.doubleToLongBits((Double)value);
+        }
+        if (type == float.class) {
+            return Float.floatToIntBits(field.getFloat(object)) == Float.floatToIntBits((Float)value);
+        }
+        if (type == char.class) {
+            return field.getChar(object) == (Character)value;
+        }
+        if (type == byte.class) {
+            return field.getByte(object) == (Byte)value;
+        }
+        return field.getShort(object) == (Short)value;
+    }
+}
@@ -60,10 +60,10 @@ public final class SuperclassIterable<T> implements Iterable<Class<? super T>> {
         if (includeSelf) {
             result.add(type);
         }
-        Class<? super T> i = type.getSuperclass();
-        while (i != null && !i.equals(Object.class)) {
-            result.add(i);
-            i = i.getSuperclass();
+        for (Class<?> superclass : ClassModel.of(type).getSuperclasses()) {
+            @SuppressWarnings("unchecked")
+            Class<? super T> c = (Class<? super T>)superclass;
+            result.add(c);
         }
         return result;
     }
@@ -2,22 +2,23 @@ package nl.jqno.equalsverifier.internal.reflection.annotations;
 
 import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
 import nl.jqno.equalsverifier.internal.reflection.SuperclassIterable;
-import org.objectweb.asm.*;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.util.*;
 
 public class AnnotationCacheBuilder {
+    private static final ClassValue<Optional<Class<?>>> PACKAGE_INFO = new ClassValue<Optional<Class<?>>>() {
+        @Override
+        protected Optional<Class<?>> computeValue(Class<?> type) {
+            return findPackageInfo(type);
+        }
+    };
 
-    private static final int OPCODES = Opcodes.ASM7;
-
-    private final List<Annotation> supportedAnnotations;
+    private final AnnotationMatcher matcher;
     private final Set<String> ignoredAnnotations;
 
     public AnnotationCacheBuilder(Annotation[] supportedAnnotations, Set<String> ignoredAnnotations) {
-        this.supportedAnnotations = Arrays.asList(supportedAnnotations);
+        this.matcher = AnnotationMatcher.of(Arrays.asList(supportedAnnotations));
         this.ignoredAnnotations = ignoredAnnotations;
     }
 
@@ -58,164 +59,58 @@ public class AnnotationCacheBuilder {
     }
 
     private void visitPackage(Class<?> type, AnnotationCache cache) {
+        Class<?> packageType = PACKAGE_INFO.get(type).orElse(null);
+        if (packageType != null) {
+            visitType(packageType, type, cache, false);
+        }
+    }
+
+    private static Optional<Class<?>> findPackageInfo(Class<?> type) {
         try {
             Package pkg = type.getPackage();
             if (pkg == null) {
-                return;
+                return Optional.empty();
             }
 
             String className = pkg.getName() + ".package-info";
-            Class<?> packageType = Class.forName(className);
-            visitType(packageType, type, cache, false);
+            return Optional.of(Class.forName(className));
         }
         catch (ClassNotFoundException e) {
             // No package object; do nothing.
+            return Optional.empty();
         }
     }
 
     private void visitType(Class<?> type, Class<?> cacheInto, AnnotationCache cache, boolean inheriting) {
-        ClassLoader classLoader = getClassLoaderFor(type);
-        Type asmType = Type.getType(type);
-        String url = asmType.getInternalName() + ".class";
-
-        try (InputStream is = classLoader.getResourceAsStream(url)) {
-            Visitor v = new Visitor(cacheInto, cache, inheriting);
-            ClassReader cr = new ClassReader(is);
-            cr.accept(v, 0);
-        }
-        catch (IOException e) {
-            // Just ignore this class if it can't be processed.
-        }
-    }
-
-    private ClassLoader getClassLoaderFor(Class<?> c) {
-        ClassLoader result = c.getClassLoader();
-        if (result == null) {
-            result = ClassLoader.getSystemClassLoader();
-        }
-        return result;
-    }
-
-    private class Visitor extends ClassVisitor {
-        private final Class<?> type;
-        private final AnnotationCache cache;
-        private final boolean inheriting;
-
-        public Visitor(Class<?> type, AnnotationCache cache, boolean inheriting) {
-            super(OPCODES);
-            this.type = type;
-            this.cache = cache;
-            this.inheriting = inheriting;
-        }
-
-        @Override
-        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
-            return new MyAnnotationVisitor(type, descriptor, cache, Optional.empty(), inheriting);
-        }
-
-        @Override
-        public FieldVisitor visitField(int access, String name, String desc, String signature, Object value) {
-            cache.addField(type, name);
-            return new MyFieldVisitor(type, cache, name, inheriting);
-        }
-    }
-
-    private class MyFieldVisitor extends FieldVisitor {
-        private final Class<?> type;
-        private final AnnotationCache cache;
-        private final String fieldName;
-        private final boolean inheriting;
-
-        public MyFieldVisitor(Class<?> type, AnnotationCache cache, String fieldName, boolean inheriting) {
-            super(OPCODES);
-            this.type = type;
-            this.cache = cache;
-            this.fieldName = fieldName;
-            this.inheriting = inheriting;
-        }
-
-        @Override
-        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
-            return new MyAnnotationVisitor(type, descriptor, cache, Optional.of(fieldName), inheriting);
-        }
-
-        @Override
-        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
-            return new MyAnnotationVisitor(type, descriptor, cache, Optional.of(fieldName), inheriting);
+        ClassFileAnnotations annotations = ClassFileAnnotations.of(type);
+        for (AnnotationProperties properties : annotations.getClassAnnotations()) {
+            addAnnotation(properties, cacheInto, cache, Optional.empty(), inheriting);
+        }
+        for (Map.Entry<String, List<AnnotationProperties>> entry : annotations.getFieldAnnotations().entrySet()) {
+            String fieldName = entry.getKey();
+            cache.addField(cacheInto, fieldName);
+            for (AnnotationProperties properties : entry.getValue()) {
+                addAnnotation(properties, cacheInto, cache, Optional.of(fieldName), inheriting);
+            }
         }
     }
 
-    private class MyAnnotationVisitor extends AnnotationVisitor {
-        private final Class<?> type;
-        private final String annotationDescriptor;
-        private final AnnotationCache cache;
-        private final Optional<String> fieldName;
-        private final boolean inheriting;
-
-        private final AnnotationProperties properties;
-
-        public MyAnnotationVisitor(Class<?> type, String annotationDescriptor, AnnotationCache cache,
-                Optional<String> fieldName, boolean inheriting) {
-            super(OPCODES);
-            this.type = type;
-            this.annotationDescriptor = annotationDescriptor;
-            this.cache = cache;
-            this.fieldName = fieldName;
-            this.inheriting = inheriting;
-            properties = new AnnotationProperties(annotationDescriptor);
-        }
-
-        @Override
-        public AnnotationVisitor visitArray(String name) {
-            Set<Object> foundAnnotations = new HashSet<>();
-            properties.putArrayValues(name, foundAnnotations);
-            return new AnnotationArrayValueVisitor(foundAnnotations);
+    private void addAnnotation(AnnotationProperties properties, Class<?> type, AnnotationCache cache,
+            Optional<String> fieldName, boolean inheriting) {
+        String annotationDescriptor = properties.getDescriptor();
+        if (ignoredAnnotations.contains(annotationDescriptor)) {
+            return;
         }
 
-        @Override
-        public void visitEnd() {
-            if (ignoredAnnotations.contains(annotationDescriptor)) {
-                return;
-            }
-
-            for (Annotation annotation : supportedAnnotations) {
-                if (!inheriting || annotation.inherits()) {
-                    matchAnnotation(annotation);
+        for (Annotation annotation : matcher.match(annotationDescriptor)) {
+            if ((!inheriting || annotation.inherits()) && annotation.validate(properties, cache, ignoredAnnotations)) {
+                if (fieldName.isPresent()) {
+                    cache.addFieldAnnotation(type, fieldName.get(), annotation);
                 }
-            }
-        }
-
-        private void matchAnnotation(Annotation annotation) {
-            for (String descriptor : annotation.descriptors()) {
-                String asBytecodeIdentifier = descriptor.replaceAll("\\.", "/") + ";";
-                if (annotationDescriptor.endsWith(asBytecodeIdentifier) && annotation.validate(properties, cache, ignoredAnnotations)) {
-                    if (fieldName.isPresent()) {
-                        cache.addFieldAnnotation(type, fieldName.get(), annotation);
-                    }
-                    else {
-                        cache.addClassAnnotation(type, annotation);
-                    }
+                else {
+                    cache.addClassAnnotation(type, annotation);
                 }
             }
         }
     }
-
-    private static class AnnotationArrayValueVisitor extends AnnotationVisitor {
-        private final Set<Object> foundAnnotations;
-
-        public AnnotationArrayValueVisitor(Set<Object> foundAnnotations) {
-            super(OPCODES);
-            this.foundAnnotations = foundAnnotations;
-        }
-
-        @Override
-        public void visit(String name, Object value) {
-            foundAnnotations.add(value);
-        }
-
-        @Override
-        public void visitEnum(String name, String desc, String value) {
-            foundAnnotations.add(value);
-        }
-    }
 }
@@ -0,0 +1,274 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.objectweb.asm.Type;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Reads and writes annotation index resources.
+ *
+ * An index is written at compile time by
+ * {@code nl.jqno.equalsverifier.processor.AnnotationIndexProcessor}. It
+ * contains the same data that {@link ClassFileAnnotations} would otherwise
+ * parse from the class files, so classes that are in an index don't need to
+ * be read at all.
+ *
+ * The index is a UTF-8 text file. After a header line, each line consists of
+ * tab-separated tokens:
+ * <ul>
+ *     <li>{@code class <binary name>} starts a new class;</li>
+ *     <li>{@code field <name>} starts a new field of that class;</li>
+ *     <li>{@code annotation <descriptor>} adds an annotation to the current
+ *          field, or to the class if no field has started yet;</li>
+ *     <li>{@code array <name> <value>...} adds an array-valued property to
+ *          the last annotation. Each value starts with {@code e} for an enum
+ *          constant, {@code t} for a type descriptor or {@code s} for a
+ *          URL-encoded string.</li>
+ * </ul>
+ */
+public final class AnnotationIndex {
+    /** The location of the index resources on the classpath. */
+    public static final String RESOURCE = "META-INF/equalsverifier/annotations.idx";
+
+    private static final String HEADER = "equalsverifier-annotation-index\t1";
+    private static final String ENCODING = StandardCharsets.UTF_8.name();
+    private static final Map<ClassLoader, Map<String, ClassFileAnnotations>> INDEXES = new WeakHashMap<>();
+
+    /**
+     * Private constructor. Use {@link Writer} to write an index.
+     */
+    private AnnotationIndex() {}
+
+    /**
+     * Looks up the annotations of the given class in the indexes that are
+     * available to its class loader.
+     *
+     * @param type The class to look up.
+     * @param classLoader The class loader that loaded {@code type}.
+     * @return The annotations of the class, or nothing if no index contains
+     *          the class.
+     */
+    /* package protected */ static Optional<ClassFileAnnotations> lookup(Class<?> type, ClassLoader classLoader) {
+        Map<String, ClassFileAnnotations> index;
+        synchronized (INDEXES) {
+            index = INDEXES.computeIfAbsent(classLoader, AnnotationIndex::load);
+        }
+        return Optional.ofNullable(index.get(type.getName()));
+    }
+
+    private static Map<String, ClassFileAnnotations> load(ClassLoader classLoader) {
+        Map<String, ClassFileAnnotations> result = new HashMap<>();
+        try {
+            for (URL url : Collections.list(classLoader.getResources(RESOURCE))) {
+                read(url, result);
+            }
+        }
+        catch (IOException e) {
+            // Ignore the index; the class files will be read instead.
+        }
+        return result.isEmpty() ? Collections.emptyMap() : result;
+    }
+
+    @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE", justification = "Generated by try-with-resources.")
+    private static void read(URL url, Map<String, ClassFileAnnotations> result) {
+        URLConnection connection;
+        try {
+            connection = url.openConnection();
+            connection.setUseCaches(false);
+        }
+        catch (IOException e) {
+            return;
+        }
+        try (InputStream is = connection.getInputStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            if (!HEADER.equals(reader.readLine())) {
+                return;
+            }
+            Map<String, ClassFileAnnotations> parsed = new Parser().parse(reader);
+            for (Map.Entry<String, ClassFileAnnotations> entry : parsed.entrySet()) {
+                result.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            // Ignore this index; the class files will be read instead.
+        }
+    }
+
+    private static final class Parser {
+        private final Map<String, ClassFileAnnotations> result = new LinkedHashMap<>();
+        private String className;
+        private List<AnnotationProperties> classAnnotations;
+        private Map<String, List<AnnotationProperties>> fieldAnnotations;
+        private List<AnnotationProperties> current;
+        private AnnotationProperties lastAnnotation;
+
+        public Map<String, ClassFileAnnotations> parse(BufferedReader reader) throws IOException {
+            String line = reader.readLine();
+            while (line != null) {
+                parseLine(line.split("\t", -1));
+                line = reader.readLine();
+            }
+            finishClass();
+            return result;
+        }
+
+        private void parseLine(String[] tokens) throws UnsupportedEncodingException {
+            switch (tokens[0]) {
+                case "class":
+                    finishClass();
+                    className = tokens[1];
+                    classAnnotations = new ArrayList<>();
+                    fieldAnnotations = new LinkedHashMap<>();
+                    current = classAnnotations;
+                    break;
+                case "field":
+                    current = new ArrayList<>();
+                    fieldAnnotations.put(tokens[1], current);
+                    break;
+                case "annotation":
+                    lastAnnotation = new AnnotationProperties(tokens[1]);
+                    current.add(lastAnnotation);
+                    break;
+                case "array":
+                    Set<Object> values = new HashSet<>();
+                    for (int i = 2; i < tokens.length; i += 1) {
+                        values.add(decode(tokens[i]));
+                    }
+                    lastAnnotation.putArrayValues(tokens[1], values);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown line in annotation index: " + tokens[0]);
+            }
+        }
+
+        private void finishClass() {
+            if (className != null) {
+                result.put(className, ClassFileAnnotations.create(classAnnotations, fieldAnnotations));
+            }
+        }
+
+        private Object decode(String value) throws UnsupportedEncodingException {
+            String payload = value.substring(1);
+            switch (value.charAt(0)) {
+                case 'e':
+                    return payload;
+                case 't':
+                    return Type.getType(payload);
+                case 's':
+                    return URLDecoder.decode(payload, ENCODING);
+                default:
+                    throw new IllegalStateException("Unknown value in annotation index: " + value);
+            }
+        }
+    }
+
+    /**
+     * Writes an annotation index.
+     */
+    public static final class Writer {
+        private final Appendable out;
+
+        /**
+         * Constructor. Writes the header of the index.
+         *
+         * @param out Where to write the index to.
+         * @throws IOException If {@code out} can't be written to.
+         */
+        public Writer(Appendable out) throws IOException {
+            this.out = out;
+            line(HEADER);
+        }
+
+        /**
+         * Starts a new class.
+         *
+         * @param binaryName The binary name of the class, as returned by
+         *          {@link Class#getName()}.
+         * @throws IOException If the index can't be written to.
+         */
+        public void startClass(String binaryName) throws IOException {
+            line("class", binaryName);
+        }
+
+        /**
+         * Starts a new field of the current class.
+         *
+         * @param name The name of the field.
+         * @throws IOException If the index can't be written to.
+         */
+        public void startField(String name) throws IOException {
+            line("field", name);
+        }
+
+        /**
+         * Adds an annotation to the current field, or to the current class if
+         * no field has started yet.
+         *
+         * @param descriptor The type descriptor of the annotation.
+         * @throws IOException If the index can't be written to.
+         */
+        public void annotation(String descriptor) throws IOException {
+            line("annotation", descriptor);
+        }
+
+        /**
+         * Adds an array-valued property to the last annotation.
+         *
+         * @param name The name of the property.
+         * @param values The values, encoded with {@link #enumValue(String)},
+         *          {@link #typeValue(String)} or {@link #stringValue(String)}.
+         * @throws IOException If the index can't be written to.
+         */
+        public void arrayValues(String name, List<String> values) throws IOException {
+            List<String> tokens = new ArrayList<>();
+            tokens.add("array");
+            tokens.add(name);
+            tokens.addAll(values);
+            line(tokens.toArray(new String[0]));
+        }
+
+        /**
+         * @param name The name of an enum constant.
+         * @return The enum constant, encoded for {@link #arrayValues(String, List)}.
+         */
+        public static String enumValue(String name) {
+            return "e" + name;
+        }
+
+        /**
+         * @param descriptor The descriptor of a type.
+         * @return The type, encoded for {@link #arrayValues(String, List)}.
+         */
+        public static String typeValue(String descriptor) {
+            return "t" + descriptor;
+        }
+
+        /**
+         * @param value A string.
+         * @return The string, encoded for {@link #arrayValues(String, List)}.
+         */
+        public static String stringValue(String value) {
+            try {
+                return "s" + URLEncoder.encode(value, ENCODING);
+            }
+            catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void line(String... tokens) throws IOException {
+            out.append(String.join("\t", tokens)).append('\n');
+        }
+    }
+}
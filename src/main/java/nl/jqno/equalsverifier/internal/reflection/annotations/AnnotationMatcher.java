@@ -0,0 +1,94 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Finds the {@link Annotation}s whose descriptors match the type descriptor
+ * of an annotation in a class file.
+ *
+ * A descriptor such as {@code "javax.persistence.Entity"} matches every
+ * type descriptor that ends with {@code "javax/persistence/Entity;"}. The
+ * descriptors are compiled once into a trie of these suffixes, read back to
+ * front, so that a type descriptor can be matched against all of them in a
+ * single pass. The result is memoised per type descriptor.
+ */
+/* package protected */ final class AnnotationMatcher {
+    private static final ConcurrentMap<List<Annotation>, AnnotationMatcher> MATCHERS = new ConcurrentHashMap<>();
+
+    private final List<Annotation> annotations;
+    private final Node root = new Node();
+    private final ConcurrentMap<String, List<Annotation>> matches = new ConcurrentHashMap<>();
+
+    private AnnotationMatcher(List<Annotation> annotations) {
+        this.annotations = annotations;
+        for (Annotation annotation : annotations) {
+            for (String descriptor : annotation.descriptors()) {
+                root.add(descriptor.replace('.', '/') + ";", annotation);
+            }
+        }
+    }
+
+    /**
+     * Returns the matcher for the given annotations, compiling it the first
+     * time they are requested.
+     *
+     * @param annotations The annotations to match.
+     * @return A matcher for {@code annotations}.
+     */
+    public static AnnotationMatcher of(List<Annotation> annotations) {
+        AnnotationMatcher result = MATCHERS.get(annotations);
+        if (result == null) {
+            List<Annotation> key = Collections.unmodifiableList(new ArrayList<>(annotations));
+            result = MATCHERS.computeIfAbsent(key, AnnotationMatcher::new);
+        }
+        return result;
+    }
+
+    /**
+     * @param typeDescriptor The type descriptor of an annotation, as found in
+     *          a class file.
+     * @return The annotations that have a descriptor that matches
+     *          {@code typeDescriptor}, in the order in which they were given.
+     */
+    public List<Annotation> match(String typeDescriptor) {
+        return matches.computeIfAbsent(typeDescriptor, this::findMatches);
+    }
+
+    private List<Annotation> findMatches(String typeDescriptor) {
+        Set<Annotation> found = new HashSet<>();
+        Node node = root;
+        int i = typeDescriptor.length() - 1;
+        while (i >= 0 && node != null) {
+            node = node.children.get(typeDescriptor.charAt(i));
+            if (node != null) {
+                found.addAll(node.annotations);
+            }
+            i -= 1;
+        }
+        if (found.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Annotation> result = new ArrayList<>();
+        for (Annotation annotation : annotations) {
+            if (found.contains(annotation)) {
+                result.add(annotation);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Annotation> annotations = new ArrayList<>();
+
+        public void add(String suffix, Annotation annotation) {
+            Node node = this;
+            for (int i = suffix.length() - 1; i >= 0; i -= 1) {
+                node = node.children.computeIfAbsent(suffix.charAt(i), c -> new Node());
+            }
+            node.annotations.add(annotation);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import org.objectweb.asm.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * The annotations that occur in the class file of a single class, on the
+ * class itself and on its fields, exactly as they were found. They are not
+ * yet matched against the supported annotations, and ignored annotations are
+ * not yet filtered out; that depends on the verification.
+ *
+ * Class files are parsed only once per class, and the result is shared by
+ * all verifications. It is cached in a {@link ClassValue}, so it can be
+ * unloaded together with the class. If the class occurs in an
+ * {@link AnnotationIndex}, the class file isn't parsed at all.
+ *
+ * If the system property {@code equalsverifier.annotations} is set to
+ * {@code runtime}, the annotations are read through core reflection
+ * instead, and the class file is only parsed if that fails. This is faster,
+ * but it's only correct if all relevant annotations have {@code RUNTIME}
+ * retention and are on the classpath: annotations with {@code CLASS}
+ * retention, such as some builds of JSR305's {@code @Nonnull}, are not
+ * found.
+ */
+/* package protected */ final class ClassFileAnnotations {
+    private static final int OPCODES = Opcodes.ASM7;
+    private static final int READER_FLAGS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+    private static final String PROPERTY = "equalsverifier.annotations";
+    private static final boolean RUNTIME_RETAINED_ONLY = "runtime".equals(System.getProperty(PROPERTY));
+    private static final ClassFileAnnotations EMPTY = new ClassFileAnnotations(new ArrayList<>(), new LinkedHashMap<>());
+
+    private static final ClassValue<ClassFileAnnotations> CACHE = new ClassValue<ClassFileAnnotations>() {
+        @Override
+        protected ClassFileAnnotations computeValue(Class<?> type) {
+            return resolve(type, RUNTIME_RETAINED_ONLY);
+        }
+    };
+
+    private final List<AnnotationProperties> classAnnotations;
+    private final Map<String, List<AnnotationProperties>> fieldAnnotations;
+
+    private ClassFileAnnotations(List<AnnotationProperties> classAnnotations,
+            Map<String, List<AnnotationProperties>> fieldAnnotations) {
+        this.classAnnotations = Collections.unmodifiableList(classAnnotations);
+        this.fieldAnnotations = Collections.unmodifiableMap(fieldAnnotations);
+    }
+
+    /**
+     * Creates annotations that were read from somewhere other than a class
+     * file.
+     *
+     * @param classAnnotations The annotations on the class itself.
+     * @param fieldAnnotations The annotations on each field, keyed by field
+     *          name.
+     * @return The annotations of a class.
+     */
+    /* package protected */ static ClassFileAnnotations create(List<AnnotationProperties> classAnnotations,
+            Map<String, List<AnnotationProperties>> fieldAnnotations) {
+        Map<String, List<AnnotationProperties>> fields = new LinkedHashMap<>();
+        for (Map.Entry<String, List<AnnotationProperties>> entry : fieldAnnotations.entrySet()) {
+            fields.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+        }
+        return new ClassFileAnnotations(classAnnotations, fields);
+    }
+
+    /**
+     * Returns the annotations in the class file of the given class, parsing
+     * it the first time the class is requested.
+     *
+     * @param type The class whose class file to parse.
+     * @return The annotations in the class file, or no annotations at all if
+     *          the class file can't be read.
+     */
+    public static ClassFileAnnotations of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * Finds the annotations of the given class in an annotation index, through
+     * core reflection if {@code runtimeRetainedOnly} is set, or else by
+     * parsing its class file, whichever succeeds first.
+     *
+     * @param type The class whose annotations to find.
+     * @param runtimeRetainedOnly Whether annotations with {@code CLASS}
+     *          retention may be ignored.
+     * @return The annotations of the class.
+     */
+    /* package protected */ static ClassFileAnnotations resolve(Class<?> type, boolean runtimeRetainedOnly) {
+        ClassLoader classLoader = getClassLoaderFor(type);
+        Optional<ClassFileAnnotations> result = AnnotationIndex.lookup(type, classLoader);
+        if (!result.isPresent() && runtimeRetainedOnly) {
+            result = RuntimeAnnotations.read(type);
+        }
+        return result.orElseGet(() -> parse(type, classLoader));
+    }
+
+    /**
+     * @return The annotations on the class itself.
+     */
+    public List<AnnotationProperties> getClassAnnotations() {
+        return classAnnotations;
+    }
+
+    /**
+     * @return The annotations on each field, keyed by field name, in the
+     *          order in which the fields occur in the class file. Fields
+     *          without annotations are included as well.
+     */
+    public Map<String, List<AnnotationProperties>> getFieldAnnotations() {
+        return fieldAnnotations;
+    }
+
+    private static ClassFileAnnotations parse(Class<?> type, ClassLoader classLoader) {
+        String url = Type.getInternalName(type) + ".class";
+
+        try (InputStream is = classLoader.getResourceAsStream(url)) {
+            Visitor v = new Visitor();
+            ClassReader cr = new ClassReader(is);
+            cr.accept(v, READER_FLAGS);
+            return new ClassFileAnnotations(v.classAnnotations, v.fieldAnnotations);
+        }
+        catch (IOException e) {
+            // Just ignore this class if it can't be processed.
+            return EMPTY;
+        }
+    }
+
+    private static ClassLoader getClassLoaderFor(Class<?> c) {
+        ClassLoader result = c.getClassLoader();
+        if (result == null) {
+            result = ClassLoader.getSystemClassLoader();
+        }
+        return result;
+    }
+
+    private static class Visitor extends ClassVisitor {
+        private final List<AnnotationProperties> classAnnotations = new ArrayList<>();
+        private final Map<String, List<AnnotationProperties>> fieldAnnotations = new LinkedHashMap<>();
+
+        public Visitor() {
+            super(OPCODES);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            return new PropertiesVisitor(descriptor, classAnnotations);
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String desc, String signature, Object value) {
+            List<AnnotationProperties> annotations = new ArrayList<>();
+            fieldAnnotations.put(name, Collections.unmodifiableList(annotations));
+            return new MyFieldVisitor(annotations);
+        }
+    }
+
+    private static class MyFieldVisitor extends FieldVisitor {
+        private final List<AnnotationProperties> annotations;
+
+        public MyFieldVisitor(List<AnnotationProperties> annotations) {
+            super(OPCODES);
+            this.annotations = annotations;
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor, boolean visible) {
+            return new PropertiesVisitor(descriptor, annotations);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            return new PropertiesVisitor(descriptor, annotations);
+        }
+    }
+
+    private static class PropertiesVisitor extends AnnotationVisitor {
+        private final AnnotationProperties properties;
+        private final List<AnnotationProperties> addTo;
+
+        public PropertiesVisitor(String descriptor, List<AnnotationProperties> addTo) {
+            super(OPCODES);
+            this.properties = new AnnotationProperties(descriptor);
+            this.addTo = addTo;
+        }
+
+        @Override
+        public AnnotationVisitor visitArray(String name) {
+            Set<Object> foundAnnotations = new HashSet<>();
+            properties.putArrayValues(name, foundAnnotations);
+            return new AnnotationArrayValueVisitor(foundAnnotations);
+        }
+
+        @Override
+        public void visitEnd() {
+            addTo.add(properties);
+        }
+    }
+
+    private static class AnnotationArrayValueVisitor extends AnnotationVisitor {
+        private final Set<Object> foundAnnotations;
+
+        public AnnotationArrayValueVisitor(Set<Object> foundAnnotations) {
+            super(OPCODES);
+            this.foundAnnotations = foundAnnotations;
+        }
+
+        @Override
+        public void visit(String name, Object value) {
+            foundAnnotations.add(value);
+        }
+
+        @Override
+        public void visitEnum(String name, String desc, String value) {
+            foundAnnotations.add(value);
+        }
+    }
+}
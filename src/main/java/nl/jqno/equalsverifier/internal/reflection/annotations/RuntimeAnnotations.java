@@ -0,0 +1,121 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Reads the annotations of a class through core reflection instead of from
+ * its class file. This is cheaper, because the JVM has already parsed them,
+ * but it only finds annotations with {@code RUNTIME} retention whose types
+ * can be loaded.
+ *
+ * The result has the same shape as {@link ClassFileAnnotations}: only array
+ * values are recorded, and non-empty arrays of primitives and nested
+ * annotations are left out. Synthetic fields, which may have been added by
+ * instrumentation at runtime, are left out as well.
+ */
+/* package protected */ final class RuntimeAnnotations {
+    /**
+     * Private constructor. Call {@link #read(Class)} instead.
+     */
+    private RuntimeAnnotations() {}
+
+    /**
+     * Reads the runtime-visible annotations of the given class and its
+     * fields.
+     *
+     * @param type The class to read.
+     * @return The annotations of the class, or nothing if they couldn't be
+     *          read, for instance because a class referenced by one of them
+     *          can't be loaded.
+     */
+    public static Optional<ClassFileAnnotations> read(Class<?> type) {
+        try {
+            List<AnnotationProperties> classAnnotations = convert(type.getDeclaredAnnotations());
+            Map<String, List<AnnotationProperties>> fieldAnnotations = new LinkedHashMap<>();
+            for (Field f : type.getDeclaredFields()) {
+                if (f.isSynthetic()) {
+                    continue;
+                }
+                List<AnnotationProperties> annotations = convert(f.getDeclaredAnnotations());
+                addTypeAnnotations(f.getAnnotatedType(), annotations);
+                fieldAnnotations.put(f.getName(), annotations);
+            }
+            return Optional.of(ClassFileAnnotations.create(classAnnotations, fieldAnnotations));
+        }
+        catch (RuntimeException | NoClassDefFoundError e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void addTypeAnnotations(AnnotatedType type, List<AnnotationProperties> result) {
+        result.addAll(convert(type.getDeclaredAnnotations()));
+        if (type instanceof AnnotatedArrayType) {
+            addTypeAnnotations(((AnnotatedArrayType)type).getAnnotatedGenericComponentType(), result);
+        }
+        if (type instanceof AnnotatedParameterizedType) {
+            addAllTypeAnnotations(((AnnotatedParameterizedType)type).getAnnotatedActualTypeArguments(), result);
+        }
+        if (type instanceof AnnotatedWildcardType) {
+            addAllTypeAnnotations(((AnnotatedWildcardType)type).getAnnotatedUpperBounds(), result);
+            addAllTypeAnnotations(((AnnotatedWildcardType)type).getAnnotatedLowerBounds(), result);
+        }
+    }
+
+    private static void addAllTypeAnnotations(AnnotatedType[] types, List<AnnotationProperties> result) {
+        for (AnnotatedType t : types) {
+            addTypeAnnotations(t, result);
+        }
+    }
+
+    private static List<AnnotationProperties> convert(java.lang.annotation.Annotation[] annotations) {
+        List<AnnotationProperties> result = new ArrayList<>();
+        for (java.lang.annotation.Annotation annotation : annotations) {
+            Class<? extends java.lang.annotation.Annotation> annotationType = annotation.annotationType();
+            AnnotationProperties properties = new AnnotationProperties(Type.getDescriptor(annotationType));
+            for (Method m : annotationType.getDeclaredMethods()) {
+                if (m.getReturnType().isArray() && m.getParameterCount() == 0 && !m.isSynthetic()) {
+                    addArrayValues(properties, m, invoke(m, annotation));
+                }
+            }
+            result.add(properties);
+        }
+        return result;
+    }
+
+    private static void addArrayValues(AnnotationProperties properties, Method m, Object array) {
+        int length = Array.getLength(array);
+        if (m.getReturnType().getComponentType().isPrimitive() && length > 0) {
+            return;
+        }
+        Set<Object> values = new HashSet<>();
+        for (int i = 0; i < length; i += 1) {
+            Object value = Array.get(array, i);
+            if (value instanceof Enum) {
+                values.add(((Enum<?>)value).name());
+            }
+            else if (value instanceof Class) {
+                values.add(Type.getType((Class<?>)value));
+            }
+            else if (value instanceof String) {
+                values.add(value);
+            }
+        }
+        properties.putArrayValues(m.getName(), values);
+    }
+
+    private static Object invoke(Method m, java.lang.annotation.Annotation annotation) {
+        try {
+            if (!m.isAccessible()) {
+                m.setAccessible(true);
+            }
+            return m.invoke(annotation);
+        }
+        catch (IllegalAccessException | InvocationTargetException e) {
+            throw new ReflectionException(e);
+        }
+    }
+}
@@ -2,9 +2,10 @@ package nl.jqno.equalsverifier.internal.reflection.annotations;
 
 import org.objectweb.asm.Type;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
 
@@ -73,23 +74,7 @@ public enum SupportedAnnotations implements Annotation {
     JSR305_DEFAULT_ANNOTATION_NONNULL(false, "") {
         @Override
         public boolean validate(AnnotationProperties properties, AnnotationCache annotationCache, Set<String> ignoredAnnotations) {
-            try {
-                Type t = Type.getType(properties.getDescriptor());
-                Class<?> annotationType = classForName(t.getClassName());
-                if (annotationType == null) {
-                    return false;
-                }
-                AnnotationCacheBuilder builder =
-                    new AnnotationCacheBuilder(new Annotation[] { NONNULL, JSR305_TYPE_QUALIFIER_DEFAULT }, ignoredAnnotations);
-                builder.build(annotationType, annotationCache);
-
-                boolean hasNonnullAnnotation = annotationCache.hasClassAnnotation(annotationType, NONNULL);
-                boolean hasValidTypeQualifierDefault = annotationCache.hasClassAnnotation(annotationType, JSR305_TYPE_QUALIFIER_DEFAULT);
-                return hasNonnullAnnotation && hasValidTypeQualifierDefault;
-            }
-            catch (UnsupportedClassVersionError ignored) {
-                return false;
-            }
+            return isNonnullByDefault(properties.getDescriptor(), ignoredAnnotations);
         }
     },
 
@@ -118,6 +103,13 @@ public enum SupportedAnnotations implements Annotation {
 
     NULLABLE(false, "Nullable", "CheckForNull");
 
+    /**
+     * Whether an annotation type, identified by its descriptor and the
+     * annotations that were ignored while examining it, is a JSR305 nonnull
+     * default. Each annotation type is examined only once.
+     */
+    private static final ConcurrentMap<Map.Entry<String, Set<String>>, Boolean> NONNULL_BY_DEFAULT = new ConcurrentHashMap<>();
+
     private final boolean inherits;
     private final List<String> descriptors;
 
@@ -140,4 +132,35 @@ public enum SupportedAnnotations implements Annotation {
     public boolean validate(AnnotationProperties properties, AnnotationCache annotationCache, Set<String> ignoredAnnotations) {
         return true;
     }
+
+    private static boolean isNonnullByDefault(String descriptor, Set<String> ignoredAnnotations) {
+        Boolean result = NONNULL_BY_DEFAULT.get(new SimpleImmutableEntry<>(descriptor, ignoredAnnotations));
+        if (result != null) {
+            return result;
+        }
+        Set<String> ignored = Collections.unmodifiableSet(new HashSet<>(ignoredAnnotations));
+        return NONNULL_BY_DEFAULT.computeIfAbsent(new SimpleImmutableEntry<>(descriptor, ignored),
+            key -> resolveNonnullByDefault(descriptor, ignored));
+    }
+
+    private static boolean resolveNonnullByDefault(String descriptor, Set<String> ignoredAnnotations) {
+        try {
+            Type t = Type.getType(descriptor);
+            Class<?> annotationType = classForName(t.getClassName());
+            if (annotationType == null) {
+                return false;
+            }
+            AnnotationCache annotationCache = new AnnotationCache();
+            AnnotationCacheBuilder builder =
+                new AnnotationCacheBuilder(new Annotation[] { NONNULL, JSR305_TYPE_QUALIFIER_DEFAULT }, ignoredAnnotations);
+            builder.build(annotationType, annotationCache);
+
+            boolean hasNonnullAnnotation = annotationCache.hasClassAnnotation(annotationType, NONNULL);
+            boolean hasValidTypeQualifierDefault = annotationCache.hasClassAnnotation(annotationType, JSR305_TYPE_QUALIFIER_DEFAULT);
+            return hasNonnullAnnotation && hasValidTypeQualifierDefault;
+        }
+        catch (UnsupportedClassVersionError ignored) {
+            return false;
+        }
+    }
 }
@@ -2,9 +2,15 @@ package nl.jqno.equalsverifier.internal.util;
 
 import nl.jqno.equalsverifier.internal.exceptions.AssertionException;
 
+import java.util.function.Supplier;
+
 /**
  * Alternative for org.junit.Assert, so we can assert things without having a
  * dependency on JUnit.
+ *
+ * Each assertion also accepts a {@link Supplier} of its message, which is
+ * only called when the assertion fails. Checks that run for every field
+ * should use these, so that passing checks don't create messages at all.
  */
 public final class Assert {
     private Assert() {
@@ -27,6 +33,23 @@ public final class Assert {
         }
     }
 
+    /**
+     * Asserts that two Objects are equal to one another. Does nothing if they
+     * are; throws an AssertionException if they're not.
+     *
+     * @param message Creates the message to be included in the
+     *          {@link AssertionException}. Only called if the assertion fails.
+     * @param expected Expected value.
+     * @param actual Actual value.
+     * @throws AssertionException If {@code expected} and {@code actual} are not
+     *          equal.
+     */
+    public static void assertEquals(Supplier<Formatter> message, Object expected, Object actual) {
+        if (!expected.equals(actual)) {
+            throw new AssertionException(message.get());
+        }
+    }
+
     /**
      * Asserts that an assertion is true. Does nothing if it is; throws an
      * AssertionException if it isn't.
@@ -41,6 +64,21 @@ public final class Assert {
         }
     }
 
+    /**
+     * Asserts that an assertion is false. Does nothing if it is; throws an
+     * AssertionException if it isn't.
+     *
+     * @param message Creates the message to be included in the
+     *          {@link AssertionException}. Only called if the assertion fails.
+     * @param assertion Assertion that must be false.
+     * @throws AssertionException If {@code assertion} is true.
+     */
+    public static void assertFalse(Supplier<Formatter> message, boolean assertion) {
+        if (assertion) {
+            throw new AssertionException(message.get());
+        }
+    }
+
     /**
      * Asserts that an assertion is false. Does nothing if it is; throws an
      * AssertionException if it isn't.
@@ -55,6 +93,21 @@ public final class Assert {
         }
     }
 
+    /**
+     * Asserts that an assertion is true. Does nothing if it is; throws an
+     * AssertionException if it isn't.
+     *
+     * @param message Creates the message to be included in the
+     *          {@link AssertionException}. Only called if the assertion fails.
+     * @param assertion Assertion that must be true.
+     * @throws AssertionException If {@code assertion} is false.
+     */
+    public static void assertTrue(Supplier<Formatter> message, boolean assertion) {
+        if (!assertion) {
+            throw new AssertionException(message.get());
+        }
+    }
+
     /**
      * Throws an AssertionException.
      *
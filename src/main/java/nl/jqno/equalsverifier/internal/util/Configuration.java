@@ -1,9 +1,12 @@
 package nl.jqno.equalsverifier.internal.util;
 
+import nl.jqno.equalsverifier.VerificationListener.Phase;
 import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.events.VerificationEvents;
 import nl.jqno.equalsverifier.internal.prefabvalues.FactoryCache;
 import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.SharedPrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
 import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
@@ -11,6 +14,7 @@ import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCacheBui
 import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 public class Configuration<T> {
     private final Class<T> type;
@@ -20,6 +24,9 @@ public class Configuration<T> {
     private final Class<? extends T> redefinedSubclass;
     private final boolean usingGetClass;
     private final EnumSet<Warning> warningsToSuppress;
+    private final FailureCollector failureCollector;
+    private final VerificationEvents events;
+    private final ForkJoinPool fieldCheckPool;
 
     private final TypeTag typeTag;
     private final PrefabValues prefabValues;
@@ -35,7 +42,8 @@ public class Configuration<T> {
                 Set<String> ignoredFields, Set<String> nonnullFields, AnnotationCache annotationCache,
                 CachedHashCodeInitializer<T> cachedHashCodeInitializer, boolean hasRedefinedSuperclass,
                 Class<? extends T> redefinedSubclass, boolean usingGetClass, EnumSet<Warning> warningsToSuppress,
-                List<T> equalExamples, List<T> unequalExamples) {
+                FailureCollector failureCollector, VerificationEvents events, ForkJoinPool fieldCheckPool, List<T> equalExamples,
+                List<T> unequalExamples) {
         this.type = type;
         this.typeTag = typeTag;
         this.classAccessor = classAccessor;
@@ -48,6 +56,9 @@ public class Configuration<T> {
         this.redefinedSubclass = redefinedSubclass;
         this.usingGetClass = usingGetClass;
         this.warningsToSuppress = warningsToSuppress;
+        this.failureCollector = failureCollector;
+        this.events = events;
+        this.fieldCheckPool = fieldCheckPool;
         this.equalExamples = equalExamples;
         this.unequalExamples = unequalExamples;
     }
@@ -56,26 +67,37 @@ public class Configuration<T> {
     public static <T> Configuration<T> build(Class<T> type, Set<String> excludedFields, Set<String> includedFields,
                 Set<String> nonnullFields, CachedHashCodeInitializer<T> cachedHashCodeInitializer, boolean hasRedefinedSuperclass,
                 Class<? extends T> redefinedSubclass, boolean usingGetClass, EnumSet<Warning> warningsToSuppress,
-                FactoryCache factoryCache, Set<String> ignoredAnnotationDescriptors, Set<String> actualFields,
+                FactoryCache factoryCache, SharedPrefabValues sharedPrefabValues, Set<String> ignoredAnnotationDescriptors,
+                Set<String> actualFields, FailureCollector failureCollector, VerificationEvents events, ForkJoinPool fieldCheckPool,
                 List<T> equalExamples, List<T> unequalExamples) {
 
         TypeTag typeTag = new TypeTag(type);
         FactoryCache cache = JavaApiPrefabValues.build().merge(factoryCache);
-        PrefabValues prefabValues = new PrefabValues(cache);
+        PrefabValues prefabValues = new PrefabValues(cache, sharedPrefabValues, events);
         ClassAccessor<T> classAccessor = ClassAccessor.of(type, prefabValues);
-        AnnotationCache annotationCache = buildAnnotationCache(type, ignoredAnnotationDescriptors);
+        AnnotationCache annotationCache = buildAnnotationCache(type, ignoredAnnotationDescriptors, events);
         Set<String> ignoredFields = includedFields.isEmpty() ? excludedFields : invertIncludedFields(actualFields, includedFields);
         List<T> unequals = ensureUnequalExamples(typeTag, classAccessor, unequalExamples);
 
         return new Configuration<>(type, typeTag, classAccessor, prefabValues, ignoredFields, nonnullFields, annotationCache,
-            cachedHashCodeInitializer, hasRedefinedSuperclass, redefinedSubclass, usingGetClass, warningsToSuppress, equalExamples, unequals);
-    }
-
-    private static <T> AnnotationCache buildAnnotationCache(Class<T> type, Set<String> ignoredAnnotationDescriptors) {
-        AnnotationCacheBuilder acb = new AnnotationCacheBuilder(SupportedAnnotations.values(), ignoredAnnotationDescriptors);
-        AnnotationCache cache = new AnnotationCache();
-        acb.build(type, cache);
-        return cache;
+            cachedHashCodeInitializer, hasRedefinedSuperclass, redefinedSubclass, usingGetClass, warningsToSuppress,
+            failureCollector, events, fieldCheckPool, equalExamples, unequals);
+    }
+
+    private static <T> AnnotationCache buildAnnotationCache(Class<T> type, Set<String> ignoredAnnotationDescriptors,
+                VerificationEvents events) {
+        long start = events.started(Phase.ANNOTATIONS, type);
+        boolean successful = false;
+        try {
+            AnnotationCacheBuilder acb = new AnnotationCacheBuilder(SupportedAnnotations.values(), ignoredAnnotationDescriptors);
+            AnnotationCache cache = new AnnotationCache();
+            acb.build(type, cache);
+            successful = true;
+            return cache;
+        }
+        finally {
+            events.finished(Phase.ANNOTATIONS, type, start, successful);
+        }
     }
 
     private static Set<String> invertIncludedFields(Set<String> actualFields, Set<String> includedFields) {
@@ -127,6 +149,18 @@ public class Configuration<T> {
         return EnumSet.copyOf(warningsToSuppress);
     }
 
+    public FailureCollector getFailureCollector() {
+        return failureCollector;
+    }
+
+    public VerificationEvents getEvents() {
+        return events;
+    }
+
+    public ForkJoinPool getFieldCheckPool() {
+        return fieldCheckPool;
+    }
+
     public List<T> getEqualExamples() {
         return Collections.unmodifiableList(equalExamples);
     }
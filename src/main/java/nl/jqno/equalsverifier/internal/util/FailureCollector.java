@@ -0,0 +1,61 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import nl.jqno.equalsverifier.internal.exceptions.MessagingException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Receives the failures of a verification.
+ *
+ * By default, a failure is rethrown immediately, so the verification stops
+ * at the first problem it finds. When collecting, failures are recorded
+ * instead, and the verification continues with the next check, so that all
+ * independent problems can be reported at once. A failure with the same
+ * description as an earlier one is recorded only once.
+ */
+public class FailureCollector {
+    private final boolean collecting;
+    private final Map<String, MessagingException> failures = new LinkedHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param collecting Whether failures should be collected instead of
+     *          rethrown.
+     */
+    public FailureCollector(boolean collecting) {
+        this.collecting = collecting;
+    }
+
+    /**
+     * @return Whether failures are collected instead of rethrown.
+     */
+    public boolean isCollecting() {
+        return collecting;
+    }
+
+    /**
+     * Records a failure, or rethrows it if failures aren't being collected.
+     *
+     * @param failure The failure.
+     * @throws MessagingException {@code failure}, if failures aren't being
+     *          collected.
+     */
+    public synchronized void record(MessagingException failure) {
+        if (!collecting) {
+            throw failure;
+        }
+        failures.putIfAbsent(String.valueOf(failure.getDescription()), failure);
+    }
+
+    /**
+     * @return The failures that have been recorded, in the order in which
+     *          they occurred.
+     */
+    public synchronized List<MessagingException> getFailures() {
+        return new ArrayList<>(failures.values());
+    }
+}
@@ -4,7 +4,9 @@ import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
 import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
 
 import java.lang.reflect.Field;
-import java.util.regex.Matcher;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
 
 /**
  * Formats a string with the contents of one or more objects.
@@ -13,8 +15,17 @@ import java.util.regex.Matcher;
  * If this throws an exception, Formatter creates its own string
  * representation of the object, containing its class name and
  * the contents of its fields.
+ *
+ * Nothing is rendered until {@link #format()} is called. Each message is
+ * split into the parts between its %%'s only once, after which it is
+ * rendered in a single pass.
  */
 public final class Formatter {
+    private static final String MARKER = "%%";
+    private static final int MAX_CACHED_TEMPLATES = 1024;
+    private static final ConcurrentMap<String, String[]> TEMPLATES = new ConcurrentHashMap<>();
+    private static final Pattern DYNAMIC_SUBCLASS_SUFFIX = Pattern.compile("\\$\\$DynamicSubclass.*");
+
     private final String message;
     private Object[] objects;
 
@@ -52,17 +63,49 @@ public final class Formatter {
      *          not match the number of objects.
      */
     public String format() {
-        String result = message;
-        for (Object object : objects) {
-            String s = result.replaceFirst("%%", Matcher.quoteReplacement(stringify(object)));
-            if (result.equals(s)) {
-                throw new IllegalStateException("Too many parameters");
-            }
-            result = s;
+        String[] segments = segmentsOf(message);
+        if (objects.length > segments.length - 1) {
+            throw new IllegalStateException("Too many parameters");
         }
-        if (result.contains("%%")) {
+        if (objects.length < segments.length - 1) {
             throw new IllegalStateException("Not enough parameters");
         }
+
+        StringBuilder result = new StringBuilder(segments[0]);
+        for (int i = 0; i < objects.length; i += 1) {
+            result.append(stringify(objects[i]));
+            result.append(segments[i + 1]);
+        }
+        return result.toString();
+    }
+
+    private static String[] segmentsOf(String message) {
+        String[] result = TEMPLATES.get(message);
+        if (result != null) {
+            return result;
+        }
+        if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+            return TEMPLATES.computeIfAbsent(message, Formatter::split);
+        }
+        return split(message);
+    }
+
+    private static String[] split(String message) {
+        int count = 1;
+        int index = message.indexOf(MARKER);
+        while (index >= 0) {
+            count += 1;
+            index = message.indexOf(MARKER, index + MARKER.length());
+        }
+
+        String[] result = new String[count];
+        int start = 0;
+        for (int i = 0; i < count - 1; i += 1) {
+            int end = message.indexOf(MARKER, start);
+            result[i] = message.substring(start, end);
+            start = end + MARKER.length();
+        }
+        result[count - 1] = message.substring(start);
         return result;
     }
 
@@ -85,7 +128,7 @@ public final class Formatter {
         ObjectAccessor<?> accessor = ObjectAccessor.of(obj);
 
         result.append("[");
-        String typeName = type.getSimpleName().replaceAll("\\$\\$DynamicSubclass.*", "");
+        String typeName = DYNAMIC_SUBCLASS_SUFFIX.matcher(type.getSimpleName()).replaceAll("");
         result.append(typeName);
 
         for (Field field : FieldIterable.of(type)) {
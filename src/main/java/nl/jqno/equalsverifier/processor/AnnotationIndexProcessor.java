@@ -0,0 +1,265 @@
+package nl.jqno.equalsverifier.processor;
+
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.SimpleTypeVisitor8;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.*;
+
+/**
+ * Annotation processor that writes an annotation index for all classes in a
+ * compilation.
+ *
+ * EqualsVerifier normally reads the class file of each class it verifies to
+ * find annotations that aren't retained at runtime. With an index on the
+ * classpath, it can skip that. The processor isn't registered as a service,
+ * so it must be enabled explicitly; for example, with
+ * {@code -processor nl.jqno.equalsverifier.processor.AnnotationIndexProcessor}
+ * or in the {@code annotationProcessors} configuration of the
+ * maven-compiler-plugin.
+ *
+ * Classes that aren't in the index are still read from their class files.
+ * However, when only part of a code base is recompiled, such as in an IDE,
+ * the index only contains the recompiled classes, and entries for classes
+ * whose annotations have changed since the last full build can be stale.
+ *
+ * The compiler of JDK 8 doesn't report type annotations that are nested
+ * inside a field's type, such as those on type arguments or on array
+ * components. When the processor runs on that compiler, classes with fields
+ * whose types can contain such annotations are left out of the index, so they
+ * are read from their class files instead. The option
+ * {@code -Aequalsverifier.index.skipNestedTypes=true} does the same on any
+ * compiler.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(AnnotationIndexProcessor.SKIP_NESTED_TYPES)
+public class AnnotationIndexProcessor extends AbstractProcessor {
+    /** The option that leaves classes with fields of nested types out of the index. */
+    public static final String SKIP_NESTED_TYPES = "equalsverifier.index.skipNestedTypes";
+
+    private static final boolean NESTED_TYPE_ANNOTATIONS_REPORTED =
+        SourceVersion.latestSupported().compareTo(SourceVersion.RELEASE_8) > 0;
+
+    private final Map<String, Element> classes = new LinkedHashMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element e : roundEnv.getRootElements()) {
+            collect(e);
+        }
+        if (roundEnv.processingOver() && !classes.isEmpty()) {
+            write();
+        }
+        return false;
+    }
+
+    private void collect(Element e) {
+        if (e instanceof TypeElement) {
+            classes.put(processingEnv.getElementUtils().getBinaryName((TypeElement)e).toString(), e);
+            for (TypeElement nested : ElementFilter.typesIn(e.getEnclosedElements())) {
+                collect(nested);
+            }
+        }
+        else if (e instanceof PackageElement) {
+            classes.put(((PackageElement)e).getQualifiedName() + ".package-info", e);
+        }
+    }
+
+    private void write() {
+        try {
+            FileObject resource =
+                processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", AnnotationIndex.RESOURCE);
+            try (Writer w = resource.openWriter()) {
+                AnnotationIndex.Writer index = new AnnotationIndex.Writer(w);
+                boolean skipNestedTypes =
+                    !NESTED_TYPE_ANNOTATIONS_REPORTED || Boolean.parseBoolean(processingEnv.getOptions().get(SKIP_NESTED_TYPES));
+                for (Map.Entry<String, Element> entry : classes.entrySet()) {
+                    if (!skipNestedTypes || !hasNestedTypes(entry.getValue())) {
+                        writeClass(index, entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+        }
+        catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "Could not write EqualsVerifier annotation index: " + e.getMessage());
+        }
+    }
+
+    private void writeClass(AnnotationIndex.Writer index, String binaryName, Element type) throws IOException {
+        index.startClass(binaryName);
+        writeAnnotations(index, type.getAnnotationMirrors());
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            index.startField(field.getSimpleName().toString());
+            writeAnnotations(index, field.getAnnotationMirrors());
+            writeAnnotations(index, typeAnnotationsOf(field.asType()));
+        }
+    }
+
+    private boolean hasNestedTypes(Element type) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (isNested(field.asType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNested(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return true;
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        DeclaredType declared = (DeclaredType)type;
+        return !declared.getTypeArguments().isEmpty() || declared.getEnclosingType().getKind() == TypeKind.DECLARED;
+    }
+
+    private void writeAnnotations(AnnotationIndex.Writer index, List<? extends AnnotationMirror> annotations) throws IOException {
+        for (AnnotationMirror annotation : annotations) {
+            if (isInClassFile(annotation)) {
+                index.annotation(descriptorOf(annotation.getAnnotationType()));
+                writeArrayValues(index, annotation);
+            }
+        }
+    }
+
+    private boolean isInClassFile(AnnotationMirror annotation) {
+        Retention retention = annotation.getAnnotationType().asElement().getAnnotation(Retention.class);
+        return retention == null || retention.value() != RetentionPolicy.SOURCE;
+    }
+
+    private void writeArrayValues(AnnotationIndex.Writer index, AnnotationMirror annotation) throws IOException {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values = annotation.getElementValues();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            TypeMirror returnType = entry.getKey().getReturnType();
+            Object value = entry.getValue().getValue();
+            if (returnType.getKind() != TypeKind.ARRAY || !(value instanceof List)) {
+                continue;
+            }
+            List<?> elements = (List<?>)value;
+            // Like the class file reader, non-empty arrays of primitives are not recorded.
+            boolean primitive = ((ArrayType)returnType).getComponentType().getKind().isPrimitive();
+            if (!primitive || elements.isEmpty()) {
+                index.arrayValues(entry.getKey().getSimpleName().toString(), encode(elements));
+            }
+        }
+    }
+
+    private List<String> encode(List<?> elements) {
+        List<String> result = new ArrayList<>();
+        for (Object element : elements) {
+            Object value = ((AnnotationValue)element).getValue();
+            if (value instanceof VariableElement) {
+                result.add(AnnotationIndex.Writer.enumValue(((VariableElement)value).getSimpleName().toString()));
+            }
+            else if (value instanceof TypeMirror) {
+                result.add(AnnotationIndex.Writer.typeValue(descriptorOf((TypeMirror)value)));
+            }
+            else if (value instanceof String) {
+                result.add(AnnotationIndex.Writer.stringValue((String)value));
+            }
+        }
+        return result;
+    }
+
+    private List<AnnotationMirror> typeAnnotationsOf(TypeMirror type) {
+        List<AnnotationMirror> result = new ArrayList<>();
+        type.accept(new TypeAnnotationCollector(), result);
+        return result;
+    }
+
+    private String descriptorOf(TypeMirror type) {
+        return type.accept(new DescriptorVisitor(), null);
+    }
+
+    private class DescriptorVisitor extends SimpleTypeVisitor8<String, Void> {
+        @Override
+        public String visitPrimitive(PrimitiveType t, Void p) {
+            switch (t.getKind()) {
+                case BOOLEAN: return "Z";
+                case BYTE: return "B";
+                case CHAR: return "C";
+                case SHORT: return "S";
+                case INT: return "I";
+                case LONG: return "J";
+                case FLOAT: return "F";
+                default: return "D";
+            }
+        }
+
+        @Override
+        public String visitNoType(NoType t, Void p) {
+            return "V";
+        }
+
+        @Override
+        public String visitArray(ArrayType t, Void p) {
+            return "[" + t.getComponentType().accept(this, p);
+        }
+
+        @Override
+        public String visitDeclared(DeclaredType t, Void p) {
+            String binaryName = processingEnv.getElementUtils().getBinaryName((TypeElement)t.asElement()).toString();
+            return "L" + binaryName.replace('.', '/') + ";";
+        }
+
+        @Override
+        protected String defaultAction(TypeMirror t, Void p) {
+            return processingEnv.getTypeUtils().erasure(t).accept(this, p);
+        }
+    }
+
+    private static class TypeAnnotationCollector extends SimpleTypeVisitor8<Void, List<AnnotationMirror>> {
+        @Override
+        public Void visitArray(ArrayType t, List<AnnotationMirror> result) {
+            t.getComponentType().accept(this, result);
+            return defaultAction(t, result);
+        }
+
+        @Override
+        public Void visitDeclared(DeclaredType t, List<AnnotationMirror> result) {
+            for (TypeMirror typeArgument : t.getTypeArguments()) {
+                typeArgument.accept(this, result);
+            }
+            return defaultAction(t, result);
+        }
+
+        @Override
+        public Void visitWildcard(WildcardType t, List<AnnotationMirror> result) {
+            if (t.getExtendsBound() != null) {
+                t.getExtendsBound().accept(this, result);
+            }
+            if (t.getSuperBound() != null) {
+                t.getSuperBound().accept(this, result);
+            }
+            return defaultAction(t, result);
+        }
+
+        @Override
+        protected Void defaultAction(TypeMirror t, List<AnnotationMirror> result) {
+            result.addAll(t.getAnnotationMirrors());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import nl.jqno.equalsverifier.ConfiguredEqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.testhelpers.ExpectedExceptionTestBase;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.A;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.GetClassPoint;
+import nl.jqno.equalsverifier.testhelpers.types.MutablePoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import nl.jqno.equalsverifier.testhelpers.types.PointContainer;
+import nl.jqno.equalsverifier.testhelpers.types.RecursiveTypeHelper.RecursiveType;
+import nl.jqno.equalsverifier.testhelpers.types.RecursiveTypeHelper.RecursiveTypeContainer;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.*;
+
+public class MultipleTypeEqualsVerifierTest extends ExpectedExceptionTestBase {
+    private static final String CORRECT_PACKAGE = A.class.getPackage().getName();
+    private static final String INCORRECT_PACKAGE = "nl.jqno.equalsverifier.testhelpers.packages.twoincorrect";
+
+    @Test
+    public void succeed_whenAllClassesAreCorrect() {
+        EqualsVerifier.forClasses(FinalPoint.class, GetClassPoint.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenAllClassesAreCorrect_givenIterable() {
+        List<Class<?>> classes = Arrays.asList(FinalPoint.class, MutablePoint.class);
+        EqualsVerifier.forClasses(classes)
+                .suppress(Warning.NONFINAL_FIELDS, Warning.STRICT_INHERITANCE)
+                .verify();
+    }
+
+    @Test
+    public void fail_whenOneOfTheClassesIsIncorrect() {
+        expectFailure("EqualsVerifier found a problem in 1 of 3 classes", "MutablePoint", "Subclass");
+        EqualsVerifier.forClasses(FinalPoint.class, MutablePoint.class, FinalPoint.class)
+                .verify();
+    }
+
+    @Test
+    public void reportContainsOneReportPerClassInOrder() {
+        List<EqualsVerifierReport> reports = EqualsVerifier.forClasses(FinalPoint.class, Point.class)
+                .report();
+
+        assertEquals(2, reports.size());
+        assertTrue(reports.get(0).isSuccessful());
+        assertFalse(reports.get(1).isSuccessful());
+        assertThat(reports.get(1).getMessage(), startsWith("EqualsVerifier found a problem in class Point"));
+    }
+
+    @Test
+    public void reportIsTheSameWhenRunOnAnExecutor() {
+        Class<?>[] classes = { Point.class, FinalPoint.class, MutablePoint.class, GetClassPoint.class };
+        List<EqualsVerifierReport> serial = EqualsVerifier.forClasses(Arrays.asList(classes))
+                .report();
+        List<EqualsVerifierReport> parallel = EqualsVerifier.forClasses(Arrays.asList(classes))
+                .withExecutor(new ForkJoinPool(4))
+                .report();
+
+        assertEquals(serial.size(), parallel.size());
+        for (int i = 0; i < serial.size(); i++) {
+            assertEquals(serial.get(i).isSuccessful(), parallel.get(i).isSuccessful());
+            assertEquals(serial.get(i).getMessage(), parallel.get(i).getMessage());
+        }
+    }
+
+    @Test
+    public void succeed_whenPrefabValuesArePreconfigured() {
+        EqualsVerifier.configure()
+                .withPrefabValues(RecursiveType.class, new RecursiveType(null), new RecursiveType(new RecursiveType(null)))
+                .forClasses(RecursiveTypeContainer.class, FinalPoint.class)
+                .verify();
+    }
+
+    @Test
+    public void settingsOnMultipleTypesAreNotAddedToConfiguration() {
+        ConfiguredEqualsVerifier ev = EqualsVerifier.configure()
+                .suppress(Warning.STRICT_INHERITANCE);
+
+        // should succeed
+        ev.forClasses(MutablePoint.class, FinalPoint.class)
+                .suppress(Warning.NONFINAL_FIELDS)
+                .verify();
+
+        // NONFINAL_FIELDS is not added to configuration, so should fail
+        expectFailure("Mutability");
+        ev.forClass(MutablePoint.class)
+                .verify();
+    }
+
+    @Test
+    public void throw_whenExecutorIsNull() {
+        expectException(NullPointerException.class);
+        EqualsVerifier.forClasses(FinalPoint.class, Point.class)
+                .withExecutor(null);
+    }
+
+    @Test
+    public void succeed_whenPrefabValuesAreSharedBetweenClasses() {
+        EqualsVerifier.forClasses(PointContainer.class, FinalPoint.class, PointContainer.class)
+                .suppress(Warning.STRICT_INHERITANCE)
+                .usingSharedPrefabValues()
+                .withExecutor(new ForkJoinPool(3))
+                .verify();
+    }
+
+    @Test
+    public void fail_whenTypeIsRecursive_givenPrefabValuesAreShared() {
+        expectFailure("Recursive datastructure");
+        EqualsVerifier.configure()
+                .usingSharedPrefabValues()
+                .forClasses(RecursiveTypeContainer.class, FinalPoint.class)
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenAllClassesInPackageAreCorrect() {
+        EqualsVerifier.forPackage(CORRECT_PACKAGE)
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenAllClassesInPackageAndSubpackagesAreCorrect() {
+        EqualsVerifier.forPackage(CORRECT_PACKAGE, true)
+                .verify();
+    }
+
+    @Test
+    public void fail_whenClassesInPackageAreIncorrect() {
+        expectFailure("EqualsVerifier found a problem in 2 of 2 classes", "IncorrectM", "IncorrectN");
+        EqualsVerifier.forPackage(INCORRECT_PACKAGE)
+                .verify();
+    }
+
+    @Test
+    public void fail_whenPackageContainsNoClasses() {
+        expectException(IllegalStateException.class, "nl.jqno.equalsverifier.nonexistent", "contains no classes");
+        EqualsVerifier.forPackage("nl.jqno.equalsverifier.nonexistent");
+    }
+
+    @Test
+    public void succeed_whenConfiguredPackageIsVerifiedOnAnExecutor() {
+        EqualsVerifier.configure()
+                .forPackage(CORRECT_PACKAGE, true)
+                .withExecutor(new ForkJoinPool(2))
+                .verify();
+    }
+
+    @Test
+    public void streamReportsContainsOneReportPerClass() {
+        List<String> messages = EqualsVerifier.forPackage(INCORRECT_PACKAGE)
+                .streamReports()
+                .map(EqualsVerifierReport::getMessage)
+                .collect(Collectors.toList());
+
+        assertEquals(2, messages.size());
+        assertThat(messages.get(0) + messages.get(1), containsString("IncorrectM"));
+        assertThat(messages.get(0) + messages.get(1), containsString("IncorrectN"));
+    }
+}
@@ -0,0 +1,173 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.testhelpers.ExpectedExceptionTestBase;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelFieldChecksTest extends ExpectedExceptionTestBase {
+    @Test
+    public void succeed_whenClassIsCorrect() {
+        EqualsVerifier.forClass(WideClass.class)
+                .checkingFieldsInParallel()
+                .verify();
+    }
+
+    @Test
+    public void succeed_whenClassWithStaticFieldsIsCorrect() {
+        EqualsVerifier.forClass(StaticFieldsInBetween.class)
+                .checkingFieldsInParallel(new ForkJoinPool(4))
+                .verify();
+    }
+
+    @Test
+    public void reportSameFailureAsSequentialCheck() {
+        EqualsVerifierReport expected = EqualsVerifier.forClass(SeveralProblems.class).report();
+        EqualsVerifierReport actual = EqualsVerifier.forClass(SeveralProblems.class)
+                .checkingFieldsInParallel()
+                .report();
+
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    public void reportSameFailuresAsSequentialCheck_whenReportingAllFailures() {
+        EqualsVerifierReport expected = EqualsVerifier.forClass(SeveralProblems.class)
+                .reportingAllFailures()
+                .report();
+        EqualsVerifierReport actual = EqualsVerifier.forClass(SeveralProblems.class)
+                .reportingAllFailures()
+                .checkingFieldsInParallel()
+                .report();
+
+        assertTrue(expected.getFailures().size() > 1);
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    public void throwNullPointerException_whenPoolIsNull() {
+        expectException(NullPointerException.class);
+        EqualsVerifier.forClass(WideClass.class).checkingFieldsInParallel(null);
+    }
+
+    static final class WideClass {
+        private final boolean a;
+        private final byte b;
+        private final char c;
+        private final short d;
+        private final int e;
+        private final long f;
+        private final float g;
+        private final double h;
+        private final String i;
+        private final int[] j;
+        private final List<String> k;
+        private final Object l;
+
+        // CHECKSTYLE: ignore ParameterNumber for 1 line.
+        WideClass(boolean a, byte b, char c, short d, int e, long f, float g, double h, String i, int[] j, List<String> k, Object l) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+            this.f = f;
+            this.g = g;
+            this.h = h;
+            this.i = i;
+            this.j = j;
+            this.k = k;
+            this.l = l;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof WideClass)) {
+                return false;
+            }
+            WideClass other = (WideClass)obj;
+            return Arrays.asList(a, b, c, d, e, f, g, h, i, k, l).equals(Arrays.asList(other.a, other.b, other.c, other.d, other.e,
+                    other.f, other.g, other.h, other.i, other.k, other.l)) && Arrays.equals(j, other.j);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c, d, e, f, g, h, i, Arrays.hashCode(j), k, l);
+        }
+    }
+
+    static final class StaticFieldsInBetween {
+        private static int counter = 0;
+        private final int a;
+        private final String b;
+        // CHECKSTYLE: ignore DeclarationOrder for 1 line.
+        private static final String CONSTANT = "constant";
+        private final long c;
+        private final Object d;
+
+        StaticFieldsInBetween(int a, String b, long c, Object d) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            counter += 1;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof StaticFieldsInBetween)) {
+                return false;
+            }
+            StaticFieldsInBetween other = (StaticFieldsInBetween)obj;
+            return a == other.a && Objects.equals(b, other.b) && c == other.c && Objects.equals(d, other.d);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c, d);
+        }
+
+        @Override
+        public String toString() {
+            return CONSTANT + counter;
+        }
+    }
+
+    static final class SeveralProblems {
+        private final int a;
+        private final int[] b;
+        private final String c;
+        private final double d;
+        private final Object e;
+
+        SeveralProblems(int a, int[] b, String c, double d, Object e) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof SeveralProblems)) {
+                return false;
+            }
+            SeveralProblems other = (SeveralProblems)obj;
+            return a == other.a && b == other.b && d == other.d;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, d);
+        }
+    }
+}
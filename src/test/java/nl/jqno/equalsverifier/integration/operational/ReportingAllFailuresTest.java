@@ -0,0 +1,138 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.EqualsVerifierReport;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import org.junit.Test;
+
+import java.util.Objects;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.*;
+
+public class ReportingAllFailuresTest {
+    @Test
+    public void succeed_whenClassIsCorrect() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(FinalPoint.class)
+                .reportingAllFailures()
+                .report();
+
+        assertTrue(report.isSuccessful());
+        assertTrue(report.getFailures().isEmpty());
+    }
+
+    @Test
+    public void reportOnlyFirstProblem_whenNotReportingAllFailures() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(TwoUnusedFields.class).report();
+
+        assertFalse(report.isSuccessful());
+        assertThat(report.getMessage(), startsWith("EqualsVerifier found a problem in class TwoUnusedFields"));
+        assertEquals(1, report.getFailures().size());
+        assertSame(report, report.getFailures().get(0));
+    }
+
+    @Test
+    public void reportEachProblem_whenReportingAllFailures() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(TwoUnusedFields.class)
+                .reportingAllFailures()
+                .report();
+
+        assertFalse(report.isSuccessful());
+        assertThat(report.getMessage(), startsWith("EqualsVerifier found 2 problems in class TwoUnusedFields"));
+        assertThat(report.getMessage(), containsString("equals does not use first"));
+        assertThat(report.getMessage(), containsString("equals does not use second"));
+        assertEquals(2, report.getFailures().size());
+        assertSame(report.getCause(), report.getFailures().get(0).getCause());
+        assertThat(report.getFailures().get(1).getMessage(), containsString("equals does not use second"));
+    }
+
+    @Test
+    public void reportOneProblemAsUsual_whenReportingAllFailures() {
+        EqualsVerifierReport expected = EqualsVerifier.forClass(OneUnusedField.class).report();
+        EqualsVerifierReport actual = EqualsVerifier.forClass(OneUnusedField.class)
+                .reportingAllFailures()
+                .report();
+
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertEquals(1, actual.getFailures().size());
+    }
+
+    @Test
+    public void verifyAddsOtherProblemsAsSuppressed_whenReportingAllFailures() {
+        EqualsVerifierReport report = EqualsVerifier.forClass(TwoUnusedFields.class)
+                .reportingAllFailures()
+                .report();
+        try {
+            EqualsVerifier.forClass(TwoUnusedFields.class)
+                    .reportingAllFailures()
+                    .verify();
+            fail("Should have failed");
+        }
+        catch (AssertionError e) {
+            assertEquals(report.getMessage(), e.getMessage());
+            assertEquals(1, e.getSuppressed().length);
+        }
+    }
+
+    @Test
+    public void reportEachProblem_whenReportingAllFailuresForSeveralClasses() {
+        try {
+            EqualsVerifier.forClasses(TwoUnusedFields.class, FinalPoint.class)
+                    .reportingAllFailures()
+                    .verify();
+            fail("Should have failed");
+        }
+        catch (AssertionError e) {
+            assertThat(e.getMessage(), containsString("equals does not use second"));
+        }
+    }
+
+    static final class TwoUnusedFields {
+        private final int id;
+        private final int first;
+        private final int second;
+
+        TwoUnusedFields(int id, int first, int second) {
+            this.id = id;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TwoUnusedFields)) {
+                return false;
+            }
+            return id == ((TwoUnusedFields)obj).id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id);
+        }
+    }
+
+    static final class OneUnusedField {
+        private final int id;
+        private final int unused;
+
+        OneUnusedField(int id, int unused) {
+            this.id = id;
+            this.unused = unused;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof OneUnusedField)) {
+                return false;
+            }
+            return id == ((OneUnusedField)obj).id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id);
+        }
+    }
+}
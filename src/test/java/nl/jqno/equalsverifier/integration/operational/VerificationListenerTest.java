@@ -0,0 +1,129 @@
+package nl.jqno.equalsverifier.integration.operational;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.VerificationListener;
+import nl.jqno.equalsverifier.VerificationListener.Phase;
+import nl.jqno.equalsverifier.testhelpers.ExpectedExceptionTestBase;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class VerificationListenerTest extends ExpectedExceptionTestBase {
+    @Test
+    public void reportAllPhases() {
+        RecordingListener listener = new RecordingListener();
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withListener(listener)
+                .verify();
+
+        assertTrue(listener.finished.contains("CONFIGURATION " + FinalPoint.class.getName()));
+        assertTrue(listener.finished.contains("ANNOTATIONS " + FinalPoint.class.getName()));
+        assertTrue(listener.finished.contains("PREFAB_VALUES int"));
+        assertTrue(listener.finished.contains("CHECKER FieldsChecker"));
+        assertTrue(listener.finished.contains("FIELD_CHECK SignificantFieldCheck.x"));
+        assertEquals(listener.started.size(), listener.finished.size());
+        assertEquals(FinalPoint.class, listener.type);
+    }
+
+    @Test
+    public void finishPhase_whenVerificationFails() {
+        RecordingListener listener = new RecordingListener();
+        EqualsVerifier.forClass(Point.class)
+                .withListener(listener)
+                .report();
+
+        assertEquals(listener.started.size(), listener.finished.size());
+        assertTrue(listener.finished.contains("CHECKER HierarchyChecker"));
+    }
+
+    @Test
+    public void reportPhases_whenListenerIsConfiguredForSeveralClasses() {
+        RecordingListener listener = new RecordingListener();
+        EqualsVerifier.configure()
+                .withListener(listener)
+                .forClass(FinalPoint.class)
+                .verify();
+
+        assertTrue(listener.finished.contains("CHECKER FieldsChecker"));
+    }
+
+    @Test
+    public void reportFinishedPhases_whenListenerDoesntCareAboutOutcome() {
+        List<String> finished = new ArrayList<>();
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withListener(new VerificationListener() {
+                    @Override
+                    public void phaseFinished(Class<?> t, Phase phase, String subject, long elapsedNanos) {
+                        finished.add(phase + " " + subject);
+                    }
+                })
+                .verify();
+
+        assertTrue(finished.contains("CHECKER FieldsChecker"));
+    }
+
+    @Test
+    public void finishPhasesInReverseOrder() {
+        List<String> calls = new ArrayList<>();
+        EqualsVerifier.forClass(FinalPoint.class)
+                .withListener(new NamedListener("a", calls))
+                .withListener(new NamedListener("b", calls))
+                .verify();
+
+        assertEquals(Arrays.asList("start a", "start b", "finish b", "finish a"), calls.subList(0, 4));
+    }
+
+    @Test
+    public void throwNullPointerException_whenListenerIsNull() {
+        expectException(NullPointerException.class);
+        EqualsVerifier.forClass(FinalPoint.class).withListener(null);
+    }
+
+    private static final class NamedListener implements VerificationListener {
+        private final String name;
+        private final List<String> calls;
+
+        private NamedListener(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public void phaseStarted(Class<?> t, Phase phase, String subject) {
+            if (phase == Phase.ANNOTATIONS) {
+                calls.add("start " + name);
+            }
+        }
+
+        @Override
+        public void phaseFinished(Class<?> t, Phase phase, String subject, long elapsedNanos) {
+            if (phase == Phase.ANNOTATIONS) {
+                calls.add("finish " + name);
+            }
+        }
+    }
+
+    private static final class RecordingListener implements VerificationListener {
+        private final List<String> started = new ArrayList<>();
+        private final List<String> finished = new ArrayList<>();
+        private Class<?> type;
+
+        @Override
+        public void phaseStarted(Class<?> t, Phase phase, String subject) {
+            this.type = t;
+            started.add(phase + " " + subject);
+        }
+
+        @Override
+        public void phaseFinished(Class<?> t, Phase phase, String subject, long elapsedNanos, boolean successful) {
+            assertTrue(elapsedNanos >= 0);
+            finished.add(phase + " " + subject);
+        }
+    }
+}
@@ -1,22 +1,28 @@
 package nl.jqno.equalsverifier.internal.checkers;
 
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.FieldCheck;
+import nl.jqno.equalsverifier.internal.events.VerificationEvents;
+import nl.jqno.equalsverifier.internal.exceptions.AssertionException;
+import nl.jqno.equalsverifier.internal.exceptions.MessagingException;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.ClassAccessor;
 import nl.jqno.equalsverifier.internal.reflection.FieldAccessor;
 import nl.jqno.equalsverifier.internal.reflection.ObjectAccessor;
 import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
+import nl.jqno.equalsverifier.internal.util.FailureCollector;
+import nl.jqno.equalsverifier.internal.util.Formatter;
+import nl.jqno.equalsverifier.testhelpers.ExpectedExceptionTestBase;
 import nl.jqno.equalsverifier.testhelpers.FactoryCacheFactory;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
 import org.junit.Test;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.assertEquals;
 
-public class FieldInspectorTest {
+public class FieldInspectorTest extends ExpectedExceptionTestBase {
     private final PrefabValues prefabValues = new PrefabValues(FactoryCacheFactory.withPrimitiveFactories());
     private final ClassAccessor<Point> accessor = ClassAccessor.of(Point.class, prefabValues);
 
@@ -36,6 +42,109 @@ public class FieldInspectorTest {
         inspector.checkWithNull(nullFields, annotationCache, new ResetObjectForEachIterationCheck());
     }
 
+    @Test
+    public void objectsAreReset_whenSeveralChecksRunInOnePass() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+
+        inspector.check(Arrays.asList(new ResetObjectForEachIterationCheck(), new ResetObjectForEachIterationCheck()));
+    }
+
+    @Test
+    public void firstFailureIsReportedInCheckOrder_whenSeveralChecksRunInOnePass() {
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL);
+
+        expectException(AssertionException.class);
+        expectDescription("first check fails on y");
+        inspector.check(Arrays.asList(new FailOnFieldCheck("first check", "y"), new FailOnFieldCheck("second check", "x")));
+    }
+
+    @Test
+    public void failuresAreCollectedInCheckOrder_whenSeveralChecksRunInOnePass() {
+        FailureCollector collector = new FailureCollector(true);
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL, collector, VerificationEvents.NONE, null);
+
+        inspector.check(Arrays.asList(new FailOnFieldCheck("first check", "y"), new FailOnFieldCheck("second check", "x", "y")));
+
+        List<String> descriptions = new ArrayList<>();
+        for (MessagingException e : collector.getFailures()) {
+            descriptions.add(e.getDescription());
+        }
+        assertEquals(Arrays.asList("first check fails on y", "second check fails on x", "second check fails on y"), descriptions);
+    }
+
+    @Test
+    public void laterFailuresAreNotCollected_whenAnEarlierCheckThrowsUnexpectedly() {
+        FailureCollector collector = new FailureCollector(true);
+        FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL, collector, VerificationEvents.NONE, null);
+        FieldCheck throwing = (reference, changed) -> {
+            if (reference.getFieldName().equals("y")) {
+                throw new IllegalStateException();
+            }
+        };
+
+        try {
+            inspector.check(Arrays.asList(throwing, new FailOnFieldCheck("second check", "x")));
+        }
+        catch (IllegalStateException expected) {
+            assertEquals(Collections.emptyList(), collector.getFailures());
+            return;
+        }
+        throw new AssertionError("Should have thrown");
+    }
+
+    @Test
+    public void sameFailureIsReported_whenFieldsAreCheckedInParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            FieldInspector<Point> inspector =
+                new FieldInspector<>(accessor, TypeTag.NULL, new FailureCollector(false), VerificationEvents.NONE, pool);
+
+            expectException(AssertionException.class);
+            expectDescription("first check fails on y");
+            inspector.check(Arrays.asList(new FailOnFieldCheck("first check", "y"), new FailOnFieldCheck("second check", "x")));
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void sameFailuresAreCollected_whenFieldsAreCheckedInParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            FailureCollector collector = new FailureCollector(true);
+            FieldInspector<Point> inspector = new FieldInspector<>(accessor, TypeTag.NULL, collector, VerificationEvents.NONE, pool);
+
+            inspector.check(Arrays.asList(new FailOnFieldCheck("first check", "y"), new FailOnFieldCheck("second check", "x", "y")));
+
+            List<String> descriptions = new ArrayList<>();
+            for (MessagingException e : collector.getFailures()) {
+                descriptions.add(e.getDescription());
+            }
+            assertEquals(Arrays.asList("first check fails on y", "second check fails on x", "second check fails on y"), descriptions);
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    private static final class FailOnFieldCheck implements FieldCheck {
+        private final String name;
+        private final List<String> fieldNames;
+
+        private FailOnFieldCheck(String name, String... fieldNames) {
+            this.name = name;
+            this.fieldNames = Arrays.asList(fieldNames);
+        }
+
+        @Override
+        public void execute(FieldAccessor referenceAccessor, FieldAccessor changedAccessor) {
+            if (fieldNames.contains(referenceAccessor.getFieldName())) {
+                throw new AssertionException(Formatter.of("%% fails on %%", name, referenceAccessor.getFieldName()));
+            }
+        }
+    }
+
     private final class ResetObjectForEachIterationCheck implements FieldCheck {
         private Object originalReference;
         private Object originalChanged;
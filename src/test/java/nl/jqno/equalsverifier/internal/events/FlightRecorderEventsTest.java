@@ -0,0 +1,71 @@
+package nl.jqno.equalsverifier.internal.events;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeNotNull;
+
+public class FlightRecorderEventsTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void doNothing_whenNotRecording() {
+        assumeFalse(FlightRecorderEvents.isRecording());
+        assertNull(FlightRecorderEvents.begin("class", "phase", "subject"));
+        FlightRecorderEvents.end(null, true);
+    }
+
+    @Test
+    public void emitEvents_whileRecording() throws Exception {
+        Class<?> recordingType = classForName("jdk.jfr.Recording");
+        assumeNotNull(recordingType);
+
+        Object recording = recordingType.getConstructor().newInstance();
+        Object settings = recordingType.getMethod("enable", String.class).invoke(recording, FlightRecorderEvents.EVENT_NAME);
+        settings.getClass().getMethod("withoutThreshold").invoke(settings);
+        recordingType.getMethod("start").invoke(recording);
+        try {
+            assertTrue(FlightRecorderEvents.isRecording());
+            EqualsVerifier.forClass(FinalPoint.class).verify();
+        }
+        finally {
+            recordingType.getMethod("stop").invoke(recording);
+        }
+
+        File file = folder.newFile("recording.jfr");
+        recordingType.getMethod("dump", Path.class).invoke(recording, file.toPath());
+        recordingType.getMethod("close").invoke(recording);
+
+        List<String> phases = readPhases(file.toPath());
+        assertTrue(phases.contains("CONFIGURATION " + FinalPoint.class.getName() + " success"));
+        assertTrue(phases.contains("CHECKER FieldsChecker success"));
+        assertTrue(phases.contains("FIELD_CHECK SignificantFieldCheck.x success"));
+    }
+
+    private List<String> readPhases(Path path) throws Exception {
+        Class<?> recordingFile = classForName("jdk.jfr.consumer.RecordingFile");
+        Class<?> recordedObject = classForName("jdk.jfr.consumer.RecordedObject");
+        List<?> events = (List<?>)recordingFile.getMethod("readAllEvents", Path.class).invoke(null, path);
+
+        List<String> result = new ArrayList<>();
+        for (Object event : events) {
+            Object phase = recordedObject.getMethod("getString", String.class).invoke(event, "phase");
+            Object subject = recordedObject.getMethod("getString", String.class).invoke(event, "subject");
+            Object outcome = recordedObject.getMethod("getString", String.class).invoke(event, "outcome");
+            result.add(phase + " " + subject + " " + outcome);
+        }
+        return result;
+    }
+}
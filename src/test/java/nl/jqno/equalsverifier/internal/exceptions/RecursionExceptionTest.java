@@ -1,25 +1,22 @@
 package nl.jqno.equalsverifier.internal.exceptions;
 
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.testhelpers.types.Point;
 import org.junit.Test;
 
-import java.util.LinkedHashSet;
-
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertEquals;
 
 public class RecursionExceptionTest {
     @Test
-    public void descriptionContainsAllTypes() {
-        LinkedHashSet<TypeTag> stack = new LinkedHashSet<>();
-        stack.add(new TypeTag(String.class));
-        stack.add(new TypeTag(Point.class));
-        stack.add(new TypeTag(Object.class));
+    public void descriptionContainsAllTypesInOrder() {
+        TypeStack stack = TypeStack.EMPTY
+                .push(new TypeTag(String.class))
+                .push(new TypeTag(Point.class))
+                .push(new TypeTag(Object.class));
 
         String message = new RecursionException(stack).getDescription();
 
-        for (TypeTag tag : stack) {
-            assertTrue(message.contains(tag.toString()));
-        }
+        assertEquals("Recursive datastructure.\nAdd prefab values for one of the following types: String, Point, Object.", message);
     }
 }
@@ -39,4 +39,19 @@ public class CacheTest {
     public void doesntContain() {
         assertFalse(cache.contains(STRING_TAG));
     }
+
+    @Test
+    public void putAndGetManyTuples() {
+        TypeTag[] tags = new TypeTag[200];
+        for (int i = 0; i < tags.length; i += 1) {
+            tags[i] = new TypeTag(Class.class, new TypeTag(Integer.class), new TypeTag(i % 2 == 0 ? String.class : Object.class));
+            tags[i] = i < 2 ? tags[i] : new TypeTag(Tuple.class, tags[i - 2]);
+            cache.put(tags[i], i, -i, i);
+        }
+
+        for (int i = 0; i < tags.length; i += 1) {
+            assertEquals(new Tuple<>(i, -i, i), cache.getTuple(tags[i]));
+        }
+        assertFalse(cache.contains(new TypeTag(Tuple.class, tags[tags.length - 1])));
+    }
 }
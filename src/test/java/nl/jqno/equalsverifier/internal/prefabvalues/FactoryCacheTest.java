@@ -4,6 +4,9 @@ import nl.jqno.equalsverifier.internal.prefabvalues.factories.PrefabValueFactory
 import nl.jqno.equalsverifier.internal.prefabvalues.factories.SimpleFactory;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.junit.Assert.*;
 
 public class FactoryCacheTest {
@@ -45,4 +48,120 @@ public class FactoryCacheTest {
     public void doesntContain() {
         assertFalse(cache.contains(STRING_CLASS));
     }
+
+    @Test
+    public void putByNameAndGetByClass() {
+        cache.put(STRING_CLASS.getName(), STRING_FACTORY);
+        assertEquals(STRING_FACTORY, cache.get(STRING_CLASS));
+    }
+
+    @Test
+    public void putByNameOverridesPutByClass() {
+        cache.put(INT_CLASS, STRING_FACTORY);
+        cache.put(INT_CLASS.getName(), INT_FACTORY);
+        assertEquals(INT_FACTORY, cache.get(INT_CLASS));
+    }
+
+    @Test
+    public void putByClassOverridesPutByName() {
+        cache.put(INT_CLASS.getName(), STRING_FACTORY);
+        cache.put(INT_CLASS, INT_FACTORY);
+        assertEquals(INT_FACTORY, cache.get(INT_CLASS));
+    }
+
+    @Test
+    public void mergeContainsFactoriesFromBoth() {
+        FactoryCache other = new FactoryCache();
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        other.put(INT_CLASS, INT_FACTORY);
+
+        FactoryCache merged = cache.merge(other);
+
+        assertEquals(STRING_FACTORY, merged.get(STRING_CLASS));
+        assertEquals(INT_FACTORY, merged.get(INT_CLASS));
+    }
+
+    @Test
+    public void mergePrefersFactoriesFromOther() {
+        FactoryCache other = new FactoryCache();
+        cache.put(INT_CLASS, STRING_FACTORY);
+        other.put(INT_CLASS, INT_FACTORY);
+
+        assertEquals(INT_FACTORY, cache.merge(other).get(INT_CLASS));
+    }
+
+    @Test
+    public void changesToOriginalsAfterMergeDontAffectTheResult() {
+        FactoryCache other = new FactoryCache();
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache merged = cache.merge(other);
+
+        cache.put(INT_CLASS, INT_FACTORY);
+        other.put(INT_CLASS, INT_FACTORY);
+
+        assertTrue(merged.contains(STRING_CLASS));
+        assertFalse(merged.contains(INT_CLASS));
+    }
+
+    @Test
+    public void changesToTheResultOfMergeDontAffectTheOriginals() {
+        FactoryCache other = new FactoryCache();
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        other.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache merged = cache.merge(other);
+
+        merged.put(INT_CLASS, INT_FACTORY);
+
+        assertFalse(cache.contains(INT_CLASS));
+        assertFalse(other.contains(INT_CLASS));
+    }
+
+    @Test
+    public void iteratorContainsTheFactoryThatWouldBeReturned() {
+        FactoryCache other = new FactoryCache();
+        cache.put(INT_CLASS, STRING_FACTORY);
+        cache.put(STRING_CLASS.getName(), STRING_FACTORY);
+        other.put(INT_CLASS, INT_FACTORY);
+
+        Map<String, PrefabValueFactory<?>> actual = new HashMap<>();
+        for (Map.Entry<String, PrefabValueFactory<?>> entry : cache.merge(other)) {
+            actual.put(entry.getKey(), entry.getValue());
+        }
+
+        Map<String, PrefabValueFactory<?>> expected = new HashMap<>();
+        expected.put(INT_CLASS.getName(), INT_FACTORY);
+        expected.put(STRING_CLASS.getName(), STRING_FACTORY);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void frozenCopyContainsTheSameFactories() {
+        cache.put(STRING_CLASS, STRING_FACTORY);
+        FactoryCache frozen = cache.freeze();
+
+        assertEquals(STRING_FACTORY, frozen.get(STRING_CLASS));
+    }
+
+    @Test
+    public void frozenCopyIsNotAffectedByTheOriginal() {
+        FactoryCache frozen = cache.freeze();
+        cache.put(STRING_CLASS, STRING_FACTORY);
+
+        assertFalse(frozen.contains(STRING_CLASS));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void frozenCopyCannotBeChanged() {
+        cache.freeze().put(STRING_CLASS, STRING_FACTORY);
+    }
+
+    @Test
+    public void javaApiPrefabValuesAreShared() {
+        assertSame(JavaApiPrefabValues.build(), JavaApiPrefabValues.build());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void javaApiPrefabValuesCannotBeChanged() {
+        JavaApiPrefabValues.build().put(STRING_CLASS, STRING_FACTORY);
+    }
 }
@@ -0,0 +1,105 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import nl.jqno.equalsverifier.internal.exceptions.RecursionException;
+import nl.jqno.equalsverifier.testhelpers.FactoryCacheFactory;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import nl.jqno.equalsverifier.testhelpers.types.PointContainer;
+import nl.jqno.equalsverifier.testhelpers.types.RecursiveTypeHelper.Node;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static nl.jqno.equalsverifier.internal.prefabvalues.factories.Factories.values;
+import static org.junit.Assert.*;
+
+public class SharedPrefabValuesTest {
+    private static final TypeTag POINT_TAG = new TypeTag(Point.class);
+    private static final TypeTag CONTAINER_TAG = new TypeTag(PointContainer.class);
+    private static final TypeTag NODE_TAG = new TypeTag(Node.class);
+
+    private final FactoryCache factoryCache = FactoryCacheFactory.withPrimitiveFactories();
+    private final SharedPrefabValues shared = new SharedPrefabValues();
+
+    @Test
+    public void valuesAreSharedBetweenPrefabValuesWithTheSameFactories() {
+        PrefabValues first = new PrefabValues(factoryCache, shared);
+        PrefabValues second = new PrefabValues(factoryCache, shared);
+
+        assertSame(first.<Point>giveRed(POINT_TAG), second.<Point>giveRed(POINT_TAG));
+        assertSame(first.<Point>giveBlack(POINT_TAG), second.<Point>giveBlack(POINT_TAG));
+    }
+
+    @Test
+    public void valuesAreSharedBetweenMergedCachesWithTheSameLayers() {
+        FactoryCache empty = new FactoryCache();
+        PrefabValues first = new PrefabValues(factoryCache.merge(empty), shared);
+        PrefabValues second = new PrefabValues(factoryCache.merge(empty), shared);
+
+        assertSame(first.<Point>giveRed(POINT_TAG), second.<Point>giveRed(POINT_TAG));
+    }
+
+    @Test
+    public void valuesAreNotSharedBetweenDifferentFactories() {
+        FactoryCache other = new FactoryCache();
+        other.put(Point.class, values(new Point(1, 2), new Point(2, 3), new Point(1, 2)));
+        PrefabValues first = new PrefabValues(factoryCache, shared);
+        PrefabValues second = new PrefabValues(factoryCache.merge(other), shared);
+
+        assertNotSame(first.<Point>giveRed(POINT_TAG), second.<Point>giveRed(POINT_TAG));
+    }
+
+    @Test
+    public void valuesAreNotSharedWhenFactoriesAreAddedLater() {
+        PrefabValues first = new PrefabValues(factoryCache, shared);
+        Point red = first.giveRed(POINT_TAG);
+
+        factoryCache.put(Point.class, values(new Point(1, 2), new Point(2, 3), new Point(1, 2)));
+        PrefabValues second = new PrefabValues(factoryCache, shared);
+
+        assertNotSame(red, second.<Point>giveRed(POINT_TAG));
+        assertEquals(new Point(1, 2), second.<Point>giveRed(POINT_TAG));
+    }
+
+    @Test
+    public void valuesAreNotSharedWithoutAStore() {
+        PrefabValues first = new PrefabValues(factoryCache);
+        PrefabValues second = new PrefabValues(factoryCache);
+
+        assertNotSame(first.<Point>giveRed(POINT_TAG), second.<Point>giveRed(POINT_TAG));
+    }
+
+    @Test(expected = RecursionException.class)
+    public void recursionIsStillDetected() {
+        new PrefabValues(factoryCache, shared).giveRed(NODE_TAG);
+    }
+
+    @Test
+    public void allThreadsEndUpWithTheSameValues() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<PointContainer>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i += 1) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    PrefabValues prefabValues = new PrefabValues(factoryCache, shared);
+                    PointContainer container = prefabValues.giveRed(CONTAINER_TAG);
+                    assertSame(container.getPoint(), prefabValues.giveRed(POINT_TAG));
+                    return container;
+                }));
+            }
+            start.countDown();
+
+            PointContainer expected = futures.get(0).get();
+            for (Future<PointContainer> future : futures) {
+                assertSame(expected, future.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+}
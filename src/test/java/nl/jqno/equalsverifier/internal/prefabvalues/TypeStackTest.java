@@ -0,0 +1,76 @@
+package nl.jqno.equalsverifier.internal.prefabvalues;
+
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TypeStackTest {
+    private static final TypeTag STRING_TAG = new TypeTag(String.class);
+    private static final TypeTag POINT_TAG = new TypeTag(Point.class);
+    private static final TypeTag LIST_TAG = new TypeTag(List.class, STRING_TAG);
+
+    @Test
+    public void emptyStack() {
+        assertTrue(TypeStack.EMPTY.isEmpty());
+        assertFalse(TypeStack.EMPTY.contains(STRING_TAG));
+        assertEquals(Collections.emptyList(), TypeStack.EMPTY.toList());
+    }
+
+    @Test
+    public void pushDoesntChangeOriginal() {
+        TypeStack one = TypeStack.EMPTY.push(STRING_TAG);
+        TypeStack two = one.push(POINT_TAG);
+
+        assertTrue(two.contains(STRING_TAG));
+        assertTrue(two.contains(POINT_TAG));
+        assertTrue(one.contains(STRING_TAG));
+        assertFalse(one.contains(POINT_TAG));
+        assertFalse(one.isEmpty());
+    }
+
+    @Test
+    public void toListIsInPushOrder() {
+        TypeStack stack = TypeStack.EMPTY.push(STRING_TAG).push(LIST_TAG).push(POINT_TAG);
+        assertEquals(Arrays.asList(STRING_TAG, LIST_TAG, POINT_TAG), stack.toList());
+    }
+
+    @Test
+    public void pushingATypeTwiceKeepsItsFirstPosition() {
+        TypeStack stack = TypeStack.EMPTY.push(STRING_TAG).push(POINT_TAG);
+        assertSame(stack, stack.push(STRING_TAG));
+        assertSame(stack, stack.push(new TypeTag(String.class)));
+    }
+
+    @Test
+    public void containsDistinguishesGenericTypes() {
+        TypeStack stack = TypeStack.EMPTY.push(LIST_TAG);
+        assertTrue(stack.contains(new TypeTag(List.class, new TypeTag(String.class))));
+        assertFalse(stack.contains(new TypeTag(List.class, POINT_TAG)));
+        assertFalse(stack.contains(new TypeTag(List.class)));
+    }
+
+    @Test
+    public void containsManyTypes() {
+        List<TypeTag> tags = new ArrayList<>();
+        TypeStack stack = TypeStack.EMPTY;
+        TypeTag tag = STRING_TAG;
+        for (int i = 0; i < 100; i += 1) {
+            tag = new TypeTag(List.class, tag);
+            tags.add(tag);
+            stack = stack.push(tag);
+        }
+
+        assertEquals(tags, stack.toList());
+        for (TypeTag t : tags) {
+            assertTrue(stack.contains(t));
+        }
+        assertFalse(stack.contains(new TypeTag(List.class, tag)));
+        assertFalse(stack.contains(STRING_TAG));
+    }
+}
@@ -7,12 +7,19 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class TypeTagTest {
     private static final TypeTag SOME_LONG_TYPETAG =
@@ -26,9 +33,18 @@ public class TypeTagTest {
         EqualsVerifier.forClass(TypeTag.class)
                 .withPrefabValues(TypeTag.class, new TypeTag(Integer.class), SOME_LONG_TYPETAG)
                 .suppress(Warning.NULL_FIELDS)
+                .withOnlyTheseFields("id")
                 .verify();
     }
 
+    @Test
+    public void equalTypeTagsShareAnId() {
+        TypeTag other = new TypeTag(Map.class, new TypeTag(Integer.class), new TypeTag(List.class, new TypeTag(String.class)));
+        assertEquals(SOME_LONG_TYPETAG.getId(), other.getId());
+        assertNotEquals(SOME_LONG_TYPETAG.getId(), new TypeTag(Map.class, new TypeTag(Integer.class), new TypeTag(List.class)).getId());
+        assertNotEquals(new TypeTag(List.class).getId(), new TypeTag(Integer.class).getId());
+    }
+
     @Test
     public void typeCannotBeNull() {
         thrown.expect(NullPointerException.class);
@@ -86,6 +102,79 @@ public class TypeTagTest {
         assertEquals(new TypeTag(String[].class), actual);
     }
 
+    @Test
+    public void matchParameterizedMultiDimensionalArrayField() throws Exception {
+        Field enclosingField = ContainerContainer.class.getDeclaredField("stringContainer");
+        TypeTag enclosingType = TypeTag.of(enclosingField, TypeTag.NULL);
+
+        Field f = Container.class.getDeclaredField("tarrs");
+        TypeTag actual = TypeTag.of(f, enclosingType);
+
+        assertEquals(new TypeTag(String[][].class), actual);
+    }
+
+    @Test
+    public void resolvedFieldIsRememberedPerEnclosingType() throws Exception {
+        TypeTag stringContainer = TypeTag.of(ContainerContainer.class.getDeclaredField("stringContainer"), TypeTag.NULL);
+        TypeTag integerContainer = TypeTag.of(ContainerContainer.class.getDeclaredField("integerContainer"), TypeTag.NULL);
+        Field f = Container.class.getDeclaredField("ts");
+
+        assertSame(TypeTag.of(f, stringContainer), TypeTag.of(f, stringContainer));
+        assertEquals(new TypeTag(List.class, new TypeTag(Integer.class)), TypeTag.of(f, integerContainer));
+        assertEquals(new TypeTag(List.class, new TypeTag(String.class)), TypeTag.of(f, stringContainer));
+    }
+
+    @Test
+    public void typeParametersCanBeUnloaded() throws Exception {
+        WeakReference<ClassLoader> loader = useClassFromIsolatedLoader();
+        for (int i = 0; i < 50 && loader.get() != null; i += 1) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(loader.get());
+    }
+
+    @Test
+    public void idTableStaysBounded_whenClassesAreLoadedRepeatedly() throws Exception {
+        int countBefore = settledIdCount(Integer.MAX_VALUE);
+        int capacityBefore = TypeTag.idCapacity();
+
+        for (int i = 0; i < 100; i += 1) {
+            WeakReference<ClassLoader> loader = useClassFromIsolatedLoader();
+            if (i % 10 == 9) {
+                for (int j = 0; j < 50 && loader.get() != null; j += 1) {
+                    System.gc();
+                    Thread.sleep(10);
+                }
+            }
+        }
+
+        assertTrue(settledIdCount(countBefore) <= countBefore);
+        assertTrue(TypeTag.idCapacity() - capacityBefore < 100);
+    }
+
+    private int settledIdCount(int target) throws InterruptedException {
+        int count = TypeTag.idCount();
+        for (int i = 0; i < 50 && count > target; i += 1) {
+            System.gc();
+            Thread.sleep(10);
+            count = TypeTag.idCount();
+        }
+        return count;
+    }
+
+    private WeakReference<ClassLoader> useClassFromIsolatedLoader() throws Exception {
+        URL location = Point.class.getProtectionDomain().getCodeSource().getLocation();
+        ClassLoader loader = new URLClassLoader(new URL[] { location }, null);
+        Class<?> isolated = loader.loadClass(Point.class.getName());
+        assertNotEquals(Point.class, isolated);
+
+        TypeTag enclosingType = new TypeTag(Container.class, new TypeTag(isolated));
+        assertEquals(new TypeTag(List.class, new TypeTag(isolated)), TypeTag.of(Container.class.getDeclaredField("ts"), enclosingType));
+        new TypeTag(Map.class, new TypeTag(isolated), new TypeTag(List.class, new TypeTag(isolated)));
+        return new WeakReference<>(loader);
+    }
+
     @Test
     public void matchNestedParameterizedGenericField() throws Exception {
         Field enclosingField = ContainerContainer.class.getDeclaredField("stringContainer");
@@ -124,6 +213,7 @@ public class TypeTagTest {
     @SuppressWarnings("unused")
     static class ContainerContainer {
         Container<String> stringContainer;
+        Container<Integer> integerContainer;
     }
 
     @SuppressWarnings("unused")
@@ -131,6 +221,7 @@ public class TypeTagTest {
         T t;
         List<T> ts;
         T[] tarr;
+        T[][] tarrs;
         List<List<T>> tss;
     }
 
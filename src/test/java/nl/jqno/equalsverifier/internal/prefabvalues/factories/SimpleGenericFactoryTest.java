@@ -3,12 +3,12 @@ package nl.jqno.equalsverifier.internal.prefabvalues.factories;
 import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
 import nl.jqno.equalsverifier.internal.prefabvalues.Tuple;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeStack;
 import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
 import nl.jqno.equalsverifier.testhelpers.types.Pair;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.LinkedHashSet;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
@@ -28,7 +28,7 @@ public class SimpleGenericFactoryTest {
     private static final PrefabValueFactory<Pair> PAIR_FACTORY =
         Factories.simple(Pair::new, null);
 
-    private final LinkedHashSet<TypeTag> typeStack = new LinkedHashSet<>();
+    private final TypeStack typeStack = TypeStack.EMPTY;
     private PrefabValues prefabValues;
     private String redString;
     private String blackString;
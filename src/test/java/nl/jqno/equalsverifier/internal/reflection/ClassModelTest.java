@@ -0,0 +1,120 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.testhelpers.ExpectedExceptionTestBase;
+import nl.jqno.equalsverifier.testhelpers.types.FinalMethodsPoint;
+import nl.jqno.equalsverifier.testhelpers.types.FinalPoint;
+import nl.jqno.equalsverifier.testhelpers.types.Point;
+import nl.jqno.equalsverifier.testhelpers.types.Point3D;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.*;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ClassModelTest extends ExpectedExceptionTestBase {
+    @Test
+    public void modelIsComputedOnlyOnce() {
+        assertSame(ClassModel.of(Point.class), ClassModel.of(Point.class));
+    }
+
+    @Test
+    public void fieldInstancesAreShared() {
+        Field expected = ClassModel.of(Point.class).getDeclaredFields().get(0);
+        Field actual = ClassModel.of(Point3D.class).getAllFields().get(1);
+        assertSame(expected, actual);
+    }
+
+    @Test
+    public void allFieldsStartWithOwnFieldsFollowedBySuperclassFields() {
+        List<Field> all = ClassModel.of(SubEmptySubFieldContainer.class).getAllFields();
+        List<Field> own = ClassModel.of(SubEmptySubFieldContainer.class).getDeclaredFields();
+        List<Field> inherited = ClassModel.of(DifferentAccessModifiersFieldContainer.class).getDeclaredFields();
+
+        assertEquals(own, all.subList(0, own.size()));
+        assertEquals(inherited, all.subList(own.size(), all.size()));
+    }
+
+    @Test
+    public void instanceFieldsExcludeStaticFields() {
+        ClassModel model = ClassModel.of(StaticContainer.class);
+        assertEquals(1, model.getAllFields().size());
+        assertEquals(Collections.emptyList(), model.getInstanceFields());
+        assertEquals(Collections.emptyList(), model.getInstanceFieldHandles());
+    }
+
+    @Test
+    public void declaredInstanceFieldsComeFirst() {
+        ClassModel model = ClassModel.of(Point3D.class);
+        assertEquals(1, model.getDeclaredInstanceFieldCount());
+        assertEquals("z", model.getInstanceFields().get(0).getName());
+    }
+
+    @Test
+    public void instanceFieldHandlesAreCreatedOnce() {
+        ClassModel model = ClassModel.of(Point3D.class);
+        List<FieldHandle> handles = model.getInstanceFieldHandles();
+
+        assertEquals(model.getInstanceFields().size(), handles.size());
+        assertSame(handles, model.getInstanceFieldHandles());
+        assertSame(handles.get(1), ClassModel.of(Point.class).handleFor(model.getInstanceFields().get(1)));
+    }
+
+    @Test
+    public void fieldListsAreUnmodifiable() {
+        expectException(UnsupportedOperationException.class);
+        ClassModel.of(Point.class).getAllFields().clear();
+    }
+
+    @Test
+    public void superclassesExcludeSelfAndObject() {
+        List<Class<?>> expected = Arrays.asList(EmptySubFieldContainer.class, DifferentAccessModifiersFieldContainer.class);
+        assertEquals(expected, ClassModel.of(SubEmptySubFieldContainer.class).getSuperclasses());
+        assertEquals(Collections.emptyList(), ClassModel.of(Object.class).getSuperclasses());
+        assertEquals(Collections.emptyList(), ClassModel.of(Runnable.class).getSuperclasses());
+    }
+
+    @Test
+    public void declaresField() {
+        ClassModel model = ClassModel.of(Point3D.class);
+        assertTrue(model.declaresField("z"));
+        assertFalse(model.declaresField("x"));
+    }
+
+    @Test
+    public void finality() {
+        assertTrue(ClassModel.of(FinalPoint.class).isFinal());
+        assertFalse(ClassModel.of(Point.class).isFinal());
+    }
+
+    @Test
+    public void equalsAndHashCodeFacts() {
+        ClassModel point = ClassModel.of(Point.class);
+        assertTrue(point.declaresEquals());
+        assertTrue(point.declaresHashCode());
+        assertFalse(point.isEqualsFinal());
+
+        ClassModel empty = ClassModel.of(Empty.class);
+        assertFalse(empty.declaresEquals());
+        assertFalse(empty.declaresHashCode());
+        assertFalse(empty.isEqualsAbstract());
+
+        ClassModel finalMethods = ClassModel.of(FinalMethodsPoint.class);
+        assertTrue(finalMethods.isEqualsFinal());
+        assertTrue(finalMethods.isHashCodeFinal());
+
+        ClassModel abstractMethods = ClassModel.of(AbstractEqualsAndHashCode.class);
+        assertTrue(abstractMethods.isEqualsAbstract());
+        assertTrue(abstractMethods.isHashCodeAbstract());
+    }
+
+    @Test
+    public void throwException_whenInterfaceHasNoPublicEquals() {
+        expectException(ReflectionException.class, "Runnable.equals");
+        ClassModel.of(Runnable.class).isEqualsAbstract();
+    }
+}
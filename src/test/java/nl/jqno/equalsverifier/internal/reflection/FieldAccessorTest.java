@@ -26,9 +26,9 @@ public class FieldAccessorTest {
 
     @Before
     public void setup() {
-        FactoryCache factoryCache = JavaApiPrefabValues.build();
+        FactoryCache factoryCache = new FactoryCache();
         factoryCache.put(Point.class, values(RED_NEW_POINT, BLACK_NEW_POINT, REDCOPY_NEW_POINT));
-        prefabValues = new PrefabValues(factoryCache);
+        prefabValues = new PrefabValues(JavaApiPrefabValues.build().merge(factoryCache));
     }
 
     @Test
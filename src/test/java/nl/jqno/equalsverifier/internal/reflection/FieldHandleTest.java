@@ -0,0 +1,206 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.internal.prefabvalues.JavaApiPrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.PrefabValues;
+import nl.jqno.equalsverifier.internal.prefabvalues.TypeTag;
+import nl.jqno.equalsverifier.testhelpers.ExpectedExceptionTestBase;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.junit.Assert.*;
+
+@RunWith(Parameterized.class)
+public class FieldHandleTest extends ExpectedExceptionTestBase {
+    private final FieldAccessBackend backend;
+    private final PrefabValues prefabValues = new PrefabValues(JavaApiPrefabValues.build());
+
+    public FieldHandleTest(FieldAccessBackend backend) {
+        this.backend = backend;
+    }
+
+    @Parameters
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][] {
+                { FieldAccessBackend.REFLECTION },
+                { FieldAccessBackend.METHOD_HANDLES }
+        });
+    }
+
+    @Test
+    public void getAndSetReferenceField() {
+        Fields fields = new Fields();
+        FieldHandle handle = handleFor("string");
+
+        handle.set(fields, "bye");
+
+        assertEquals("bye", fields.string);
+        assertEquals("bye", handle.get(fields));
+    }
+
+    @Test
+    public void getAndSetPrimitiveField() {
+        Fields fields = new Fields();
+        FieldHandle handle = handleFor("i");
+
+        handle.set(fields, 42);
+
+        assertEquals(42, fields.i);
+        assertEquals(42, handle.get(fields));
+    }
+
+    @Test
+    public void setFinalField() {
+        Fields fields = new Fields();
+        handleFor("finalObject").set(fields, "changed");
+        assertEquals("changed", fields.finalObject);
+    }
+
+    @Test
+    public void getAndSetStaticField() {
+        FieldHandle handle = handleFor("staticObject");
+        Object original = handle.get(null);
+        try {
+            handle.set(null, "changed");
+            assertEquals("changed", Fields.staticObject);
+        }
+        finally {
+            handle.set(null, original);
+        }
+    }
+
+    @Test
+    public void copyAllFields() {
+        Fields from = new Fields();
+        from.z = true;
+        from.b = 1;
+        from.c = 'a';
+        from.s = 2;
+        from.i = 3;
+        from.l = 4L;
+        from.f = 5.0f;
+        from.d = 6.0;
+        from.string = "copied";
+        Fields to = new Fields();
+
+        for (Field field : ClassModel.of(Fields.class).getDeclaredFields()) {
+            if (!"staticObject".equals(field.getName())) {
+                backend.handleFor(field).copy(from, to);
+            }
+        }
+
+        assertTrue(to.z);
+        assertEquals(1, to.b);
+        assertEquals('a', to.c);
+        assertEquals(2, to.s);
+        assertEquals(3, to.i);
+        assertEquals(4L, to.l);
+        assertEquals(5.0f, to.f, 0.0f);
+        assertEquals(6.0, to.d, 0.0);
+        assertEquals("copied", to.string);
+    }
+
+    @Test
+    public void setDefault() {
+        Fields fields = new Fields();
+        fields.c = 'a';
+        fields.d = 1.0;
+
+        handleFor("c").setDefault(fields);
+        handleFor("d").setDefault(fields);
+        handleFor("string").setDefault(fields);
+
+        assertEquals('\u0000', fields.c);
+        assertEquals(0.0, fields.d, 0.0);
+        assertNull(fields.string);
+    }
+
+    @Test
+    public void changeValueOfPrimitiveFields() {
+        Fields fields = new Fields();
+        Fields other = new Fields();
+        for (Field field : ClassModel.of(Fields.class).getDeclaredFields()) {
+            if (field.getType().isPrimitive()) {
+                FieldHandle handle = backend.handleFor(field);
+                TypeTag tag = new TypeTag(field.getType());
+                handle.changeValue(fields, prefabValues, tag);
+                assertEquals(prefabValues.giveRed(tag), handle.get(fields));
+
+                handle.changeValue(fields, prefabValues, tag);
+                assertEquals(prefabValues.giveBlack(tag), handle.get(fields));
+
+                handle.copy(fields, other);
+                handle.changeValue(other, prefabValues, tag);
+                assertEquals(prefabValues.giveRed(tag), handle.get(other));
+            }
+        }
+    }
+
+    @Test
+    public void changeValueOfReferenceField() {
+        Fields fields = new Fields();
+        FieldHandle handle = handleFor("string");
+        TypeTag tag = new TypeTag(String.class);
+
+        handle.changeValue(fields, prefabValues, tag);
+        assertEquals(prefabValues.giveRed(tag), fields.string);
+
+        handle.changeValue(fields, prefabValues, tag);
+        assertEquals(prefabValues.giveBlack(tag), fields.string);
+    }
+
+    @Test
+    public void throwIllegalArgumentException_whenValueHasWrongType() {
+        expectException(IllegalArgumentException.class);
+        handleFor("string").set(new Fields(), 42);
+    }
+
+    @Test
+    public void throwIllegalArgumentException_whenPrimitiveIsSetToNull() {
+        expectException(IllegalArgumentException.class);
+        handleFor("i").set(new Fields(), null);
+    }
+
+    @Test
+    public void throwIllegalArgumentException_whenObjectHasWrongType() {
+        expectException(IllegalArgumentException.class);
+        handleFor("i").get("not a Fields");
+    }
+
+    @Test
+    public void selectBackend() {
+        assertEquals(backend, FieldAccessBackend.select(backend.name().toLowerCase(), "11"));
+        assertEquals(FieldAccessBackend.REFLECTION, FieldAccessBackend.select(null, "1.8"));
+        assertEquals(FieldAccessBackend.METHOD_HANDLES, FieldAccessBackend.select(null, "11"));
+    }
+
+    private FieldHandle handleFor(String fieldName) {
+        try {
+            return backend.handleFor(Fields.class.getDeclaredField(fieldName));
+        }
+        catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException(fieldName, e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Fields {
+        private static Object staticObject = "static";
+
+        private final Object finalObject = new Object();
+        private boolean z;
+        private byte b;
+        private char c;
+        private short s;
+        private int i;
+        private long l;
+        private float f;
+        private double d;
+        private String string = "hello";
+    }
+}
@@ -6,10 +6,15 @@ import nl.jqno.equalsverifier.testhelpers.types.Point;
 import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.AbstractClass;
 import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.ArrayContainer;
 import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.Interface;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.PrimitiveContainer;
 import org.junit.Test;
 import org.w3c.dom.Element;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.*;
 
@@ -28,6 +33,17 @@ public class InstantiatorTest {
         assertEquals(null, p.color);
     }
 
+    @Test
+    public void instantiateDistinctObjectsWithTheSameInstantiator() {
+        Instantiator<PrimitiveContainer> instantiator = Instantiator.of(PrimitiveContainer.class);
+        PrimitiveContainer first = instantiator.instantiate();
+        first.field = 1;
+        PrimitiveContainer second = Instantiator.of(PrimitiveContainer.class).instantiate();
+
+        assertNotSame(first, second);
+        assertEquals(0, second.field);
+    }
+
     @Test
     public void instantiateInterface() {
         Instantiator<Interface> instantiator = Instantiator.of(Interface.class);
@@ -87,4 +103,25 @@ public class InstantiatorTest {
         Class<?> actual = instantiator.instantiateAnonymousSubclass().getClass();
         assertEquals(expected, actual);
     }
+
+    @Test
+    public void instantiateTheSameSubclassOnSeveralThreads() throws Exception {
+        class Concurrent {}
+        Instantiator<Concurrent> instantiator = Instantiator.of(Concurrent.class);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Class<?>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i += 1) {
+                futures.add(executor.submit(() -> instantiator.instantiateAnonymousSubclass().getClass()));
+            }
+
+            Class<?> expected = futures.get(0).get();
+            for (Future<Class<?>> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -21,9 +21,9 @@ public class ObjectAccessorScramblingTest {
 
     @Before
     public void setup() {
-        FactoryCache factoryCache = JavaApiPrefabValues.build();
+        FactoryCache factoryCache = new FactoryCache();
         factoryCache.put(Point.class, values(new Point(1, 2), new Point(2, 3), new Point(1, 2)));
-        prefabValues = new PrefabValues(factoryCache);
+        prefabValues = new PrefabValues(JavaApiPrefabValues.build().merge(factoryCache));
     }
 
     @Test
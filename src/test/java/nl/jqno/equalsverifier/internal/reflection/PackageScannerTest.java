@@ -0,0 +1,61 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import nl.jqno.equalsverifier.testhelpers.packages.correct.A;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.B;
+import nl.jqno.equalsverifier.testhelpers.packages.correct.subpackage.C;
+import org.junit.Test;
+import org.junit.runner.Description;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class PackageScannerTest {
+    private static final String CORRECT_PACKAGE = A.class.getPackage().getName();
+
+    @Test
+    public void findClassesThatDeclareEquals() {
+        Set<Class<?>> actual = toSet(PackageScanner.of(CORRECT_PACKAGE, false));
+        assertEquals(setOf(A.class, B.class), actual);
+    }
+
+    @Test
+    public void findClassesInSubpackages_whenScanningRecursively() {
+        Set<Class<?>> actual = toSet(PackageScanner.of(CORRECT_PACKAGE, true));
+        assertEquals(setOf(A.class, B.class, C.class), actual);
+    }
+
+    @Test
+    public void findClassesInJar() {
+        Set<Class<?>> actual = toSet(PackageScanner.of(Description.class.getPackage().getName(), false));
+        assertTrue(actual.contains(Description.class));
+    }
+
+    @Test
+    public void containsClassFiles_whenPackageExists() {
+        assertTrue(PackageScanner.of(CORRECT_PACKAGE, false).containsClassFiles());
+    }
+
+    @Test
+    public void containsNoClassFiles_whenPackageDoesNotExist() {
+        PackageScanner scanner = PackageScanner.of("nl.jqno.equalsverifier.nonexistent", true);
+        assertFalse(scanner.containsClassFiles());
+        assertFalse(scanner.iterator().hasNext());
+    }
+
+    private static Set<Class<?>> setOf(Class<?>... classes) {
+        return new HashSet<>(Arrays.asList(classes));
+    }
+
+    private static Set<Class<?>> toSet(Iterable<Class<?>> classes) {
+        List<Class<?>> result = new ArrayList<>();
+        classes.forEach(result::add);
+        Set<Class<?>> set = new HashSet<>(result);
+        assertEquals("duplicate classes found", result.size(), set.size());
+        return set;
+    }
+}
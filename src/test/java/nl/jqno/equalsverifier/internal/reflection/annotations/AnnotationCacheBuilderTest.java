@@ -23,6 +23,7 @@ import java.util.Set;
 
 import static nl.jqno.equalsverifier.testhelpers.annotations.TestSupportedAnnotations.*;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class AnnotationCacheBuilderTest {
@@ -235,6 +236,24 @@ public class AnnotationCacheBuilderTest {
         build(sub);
     }
 
+    @Test
+    public void classFileIsParsedOnlyOnce() {
+        assertSame(ClassFileAnnotations.of(AnnotatedFields.class), ClassFileAnnotations.of(AnnotatedFields.class));
+    }
+
+    @Test
+    public void ignoredAnnotationsAreFilteredPerBuilder() {
+        String descriptor = "Lnl/jqno/equalsverifier/testhelpers/annotations/FieldAnnotationRuntimeRetention;";
+        AnnotationCache ignoringCache = new AnnotationCache();
+        new AnnotationCacheBuilder(TestSupportedAnnotations.values(), Collections.singleton(descriptor))
+                .build(AnnotatedFields.class, ignoringCache);
+        build(AnnotatedFields.class);
+
+        assertFalse(ignoringCache.hasFieldAnnotation(AnnotatedFields.class, RUNTIME_RETENTION, FIELD_RUNTIME_RETENTION));
+        assertTrue(ignoringCache.hasFieldAnnotation(AnnotatedFields.class, CLASS_RETENTION, FIELD_CLASS_RETENTION));
+        assertFieldHasAnnotation(AnnotatedFields.class, RUNTIME_RETENTION, FIELD_RUNTIME_RETENTION);
+    }
+
     private void build(Class<?>... types) {
         for (Class<?> type : types) {
             cacheBuilder.build(type, cache);
@@ -0,0 +1,180 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import nl.jqno.equalsverifier.processor.AnnotationIndexProcessor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.lang.model.SourceVersion;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class AnnotationIndexTest {
+    private static final String ANNOTATIONS = "nl.jqno.equalsverifier.testhelpers.annotations";
+    private static final boolean NESTED_TYPE_ANNOTATIONS_REPORTED =
+            SourceVersion.latestSupported().compareTo(SourceVersion.RELEASE_8) > 0;
+    private static final String[] ARRAY_NAMES = { "value", "strings", "ints", "types", "annotations" };
+
+    private static final String INDEXED_SOURCE =
+            "package generated;\n" +
+            "import java.lang.annotation.*;\n" +
+            "import java.util.*;\n" +
+            "import " + ANNOTATIONS + ".*;\n" +
+            "@Target({ ElementType.TYPE, ElementType.FIELD })\n" +
+            "@interface Values { String[] strings() default {}; int[] ints() default {}; Class<?>[] types() default {}; }\n" +
+            "@Values(strings = { \"a\\tb\", \"\\u00fc\" }, ints = { 1 }, types = { int.class, String[].class, List.class })\n" +
+            "@AnnotationWithClassValues(annotations = { NotNull.class })\n" +
+            "@SuppressWarnings(\"unused\")\n" +
+            "public class Indexed {\n" +
+            "    @FieldAnnotationClassRetention @Values(ints = {}) private List<@TypeUseAnnotationClassRetention String> list;\n" +
+            "    private @TypeUseAnnotationRuntimeRetention String @TypeUseAnnotationClassRetention [] array;\n" +
+            "    private Map<? extends @TypeUseAnnotationClassRetention Object, ? super @TypeUseAnnotationRuntimeRetention String> wildcards;\n" +
+            "    private int plain;\n" +
+            "    public static class Nested { @Deprecated Object o; }\n" +
+            "}\n";
+    private static final String PACKAGE_INFO_SOURCE =
+            "@" + ANNOTATIONS + ".PackageAnnotation\n" +
+            "package generated;\n";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private File sources;
+
+    @Before
+    public void setUp() throws IOException {
+        sources = temp.newFolder("generated");
+        Files.write(new File(sources, "Indexed.java").toPath(), INDEXED_SOURCE.getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(sources, "package-info.java").toPath(), PACKAGE_INFO_SOURCE.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void indexContainsTheSameAnnotationsAsTheClassFiles() throws Exception {
+        ClassLoader indexed = compile(true);
+        ClassLoader parsed = compile(false);
+
+        assertNotNull(indexed.getResource(AnnotationIndex.RESOURCE));
+        assertNull(parsed.getResource(AnnotationIndex.RESOURCE));
+        for (String name : Arrays.asList("generated.Indexed", "generated.Indexed$Nested", "generated.Values", "generated.package-info")) {
+            Class<?> type = indexed.loadClass(name);
+            Optional<ClassFileAnnotations> fromIndex = AnnotationIndex.lookup(type, indexed);
+            if (!NESTED_TYPE_ANNOTATIONS_REPORTED && "generated.Indexed".equals(name)) {
+                // Its fields have nested types, so it must be read from its class file.
+                assertFalse(name, fromIndex.isPresent());
+                assertEquals(render(ClassFileAnnotations.of(parsed.loadClass(name))), render(ClassFileAnnotations.of(type)));
+                continue;
+            }
+
+            assertTrue(name, fromIndex.isPresent());
+            assertSame(fromIndex.get(), ClassFileAnnotations.of(type));
+            assertEquals(name, render(ClassFileAnnotations.of(parsed.loadClass(name))), render(fromIndex.get()));
+        }
+    }
+
+    @Test
+    public void classesWithNestedTypesAreLeftOut_whenRequested() throws Exception {
+        ClassLoader indexed = compile(true, "-A" + AnnotationIndexProcessor.SKIP_NESTED_TYPES + "=true");
+        ClassLoader parsed = compile(false);
+
+        Class<?> type = indexed.loadClass("generated.Indexed");
+        assertFalse(AnnotationIndex.lookup(type, indexed).isPresent());
+        assertEquals(render(ClassFileAnnotations.of(parsed.loadClass("generated.Indexed"))), render(ClassFileAnnotations.of(type)));
+        assertTrue(AnnotationIndex.lookup(indexed.loadClass("generated.Indexed$Nested"), indexed).isPresent());
+    }
+
+    @Test
+    public void indexWithUnknownVersionIsIgnored() throws Exception {
+        ClassLoader loader = compile(false);
+        writeIndex(loader, "equalsverifier-annotation-index\t2\nclass\tgenerated.Indexed\n");
+        assertFalse(AnnotationIndex.lookup(loader.loadClass("generated.Indexed"), loader).isPresent());
+    }
+
+    @Test
+    public void corruptIndexIsIgnored() throws Exception {
+        ClassLoader loader = compile(false);
+        writeIndex(loader, "equalsverifier-annotation-index\t1\nclass\tgenerated.Indexed\nfield\n");
+        Class<?> type = loader.loadClass("generated.Indexed");
+
+        assertFalse(AnnotationIndex.lookup(type, loader).isPresent());
+        assertFalse(ClassFileAnnotations.of(type).getClassAnnotations().isEmpty());
+    }
+
+    @Test
+    public void unknownValuesMakeIndexCorrupt() throws Exception {
+        ClassLoader loader = compile(false);
+        writeIndex(loader, "equalsverifier-annotation-index\t1\nclass\tgenerated.Indexed\nannotation\tLA;\narray\tvalue\tx1\n");
+        assertFalse(AnnotationIndex.lookup(loader.loadClass("generated.Indexed"), loader).isPresent());
+    }
+
+    @Test
+    public void unknownLinesMakeIndexCorrupt() throws Exception {
+        ClassLoader loader = compile(false);
+        writeIndex(loader, "equalsverifier-annotation-index\t1\nclass\tgenerated.Indexed\nmethod\tfoo\n");
+        assertFalse(AnnotationIndex.lookup(loader.loadClass("generated.Indexed"), loader).isPresent());
+    }
+
+    private ClassLoader compile(boolean withProcessor, String... options) throws IOException {
+        File out = temp.newFolder();
+        List<String> args = new ArrayList<>(Arrays.asList(
+                "-source", "8",
+                "-target", "8",
+                "-Xlint:-options",
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", out.getPath(),
+                new File(sources, "Indexed.java").getPath(),
+                new File(sources, "package-info.java").getPath()));
+        if (withProcessor) {
+            args.addAll(0, Arrays.asList("-processor", AnnotationIndexProcessor.class.getName()));
+            args.addAll(0, Arrays.asList(options));
+        }
+        else {
+            args.add(0, "-proc:none");
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, args.toArray(new String[0])));
+        return new URLClassLoader(new URL[] { out.toURI().toURL() }, getClass().getClassLoader());
+    }
+
+    private void writeIndex(ClassLoader loader, String content) throws IOException {
+        URL root = ((URLClassLoader)loader).getURLs()[0];
+        File index = new File(root.getPath(), AnnotationIndex.RESOURCE);
+        assertTrue(index.getParentFile().mkdirs());
+        Files.write(index.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String render(ClassFileAnnotations annotations) {
+        StringBuilder result = new StringBuilder(render(annotations.getClassAnnotations()));
+        for (Map.Entry<String, List<AnnotationProperties>> entry : annotations.getFieldAnnotations().entrySet()) {
+            result.append("\n").append(entry.getKey()).append(": ").append(render(entry.getValue()));
+        }
+        return result.toString();
+    }
+
+    private static String render(List<AnnotationProperties> annotations) {
+        Set<String> result = new TreeSet<>();
+        for (AnnotationProperties properties : annotations) {
+            StringBuilder sb = new StringBuilder(properties.getDescriptor());
+            for (String name : ARRAY_NAMES) {
+                Set<Object> values = properties.getArrayValues(name);
+                if (values != null) {
+                    Set<String> sorted = new TreeSet<>();
+                    values.forEach(v -> sorted.add(v.getClass().getSimpleName() + ":" + v));
+                    sb.append(" ").append(name).append("=").append(sorted);
+                }
+            }
+            result.add(sb.toString());
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,50 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations.*;
+import static org.junit.Assert.*;
+
+public class AnnotationMatcherTest {
+    private final AnnotationMatcher matcher = AnnotationMatcher.of(Arrays.asList(SupportedAnnotations.values()));
+
+    @Test
+    public void matcherIsCompiledOnce() {
+        assertSame(matcher, AnnotationMatcher.of(Arrays.asList(SupportedAnnotations.values())));
+    }
+
+    @Test
+    public void simpleNameMatchesAnyPackage() {
+        assertEquals(Arrays.asList(NONNULL, JSR305_DEFAULT_ANNOTATION_NONNULL), matcher.match("Ljavax/annotation/Nonnull;"));
+        assertEquals(Arrays.asList(NONNULL, JSR305_DEFAULT_ANNOTATION_NONNULL), matcher.match("Lcom/example/NotNull;"));
+    }
+
+    @Test
+    public void qualifiedNameMatchesOnlyThatPackage() {
+        assertEquals(Arrays.asList(ENTITY, JSR305_DEFAULT_ANNOTATION_NONNULL), matcher.match("Ljavax/persistence/Entity;"));
+        assertEquals(Collections.singletonList(JSR305_DEFAULT_ANNOTATION_NONNULL), matcher.match("Lcom/example/Entity;"));
+    }
+
+    @Test
+    public void matchesArePrefixOfSuffix() {
+        assertEquals(Arrays.asList(NONNULL, JSR305_DEFAULT_ANNOTATION_NONNULL), matcher.match("Lcom/example/MyNonnull;"));
+        assertEquals(Collections.singletonList(JSR305_DEFAULT_ANNOTATION_NONNULL), matcher.match("Lcom/example/Nonnullable;"));
+    }
+
+    @Test
+    public void matchesAreMemoised() {
+        List<Annotation> first = matcher.match("Ljavax/persistence/Transient;");
+        assertSame(first, matcher.match("Ljavax/persistence/Transient;"));
+    }
+
+    @Test
+    public void noMatch() {
+        AnnotationMatcher entityMatcher = AnnotationMatcher.of(Collections.singletonList(ENTITY));
+        assertEquals(Collections.emptyList(), entityMatcher.match("Ljavax/persistence/Transient;"));
+        assertEquals(Collections.emptyList(), entityMatcher.match("L;"));
+    }
+}
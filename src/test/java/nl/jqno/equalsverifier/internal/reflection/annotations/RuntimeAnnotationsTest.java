@@ -0,0 +1,108 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import nl.jqno.equalsverifier.testhelpers.annotations.*;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.AnnotatedFields;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.AnnotatedTypes;
+import nl.jqno.equalsverifier.testhelpers.types.TypeHelper.AnnotatedWithBoth;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class RuntimeAnnotationsTest {
+    private static final String[] ARRAY_NAMES = { "value", "annotations", "enums", "strings", "ints", "noInts", "nested" };
+
+    @Test
+    public void runtimeAnnotationsAreTheSameAsInTheClassFile() {
+        for (Class<?> type : Arrays.asList(RuntimeOnly.class, ArrayValues.class, TypeUseAnnotationRuntimeRetention.class)) {
+            ClassFileAnnotations expected = ClassFileAnnotations.resolve(type, false);
+            ClassFileAnnotations actual = RuntimeAnnotations.read(type).get();
+            assertEquals(type.getName(), render(expected), render(actual));
+        }
+    }
+
+    @Test
+    public void classRetainedAnnotationsAreNotFound() {
+        ClassFileAnnotations annotations = RuntimeAnnotations.read(AnnotatedWithBoth.class).get();
+        assertEquals("[" + descriptor(TypeAnnotationRuntimeRetention.class) + "]", render(annotations.getClassAnnotations()));
+    }
+
+    @Test
+    public void classRetainedFieldAnnotationsAreNotFound() {
+        Map<String, List<AnnotationProperties>> fields = RuntimeAnnotations.read(AnnotatedFields.class).get().getFieldAnnotations();
+        assertEquals(Arrays.asList("runtimeRetention", "classRetention", "bothRetentions", "noRetention"), new ArrayList<>(fields.keySet()));
+        assertEquals("[" + descriptor(FieldAnnotationRuntimeRetention.class) + "]", render(fields.get("bothRetentions")));
+        assertEquals("[]", render(fields.get("classRetention")));
+    }
+
+    @Test
+    public void classRetainedTypeUseAnnotationsAreNotFound() {
+        Map<String, List<AnnotationProperties>> fields = RuntimeAnnotations.read(AnnotatedTypes.class).get().getFieldAnnotations();
+        assertEquals("[" + descriptor(TypeUseAnnotationRuntimeRetention.class) + "]", render(fields.get("bothRetentions")));
+    }
+
+    @Test
+    public void resolveUsesClassFileUnlessRuntimeRetainedOnly() {
+        assertEquals(2, ClassFileAnnotations.resolve(AnnotatedWithBoth.class, false).getClassAnnotations().size());
+        assertEquals(1, ClassFileAnnotations.resolve(AnnotatedWithBoth.class, true).getClassAnnotations().size());
+    }
+
+    private static String descriptor(Class<?> type) {
+        return "L" + type.getName().replace('.', '/') + ";";
+    }
+
+    private static String render(ClassFileAnnotations annotations) {
+        StringBuilder result = new StringBuilder(render(annotations.getClassAnnotations()));
+        for (Map.Entry<String, List<AnnotationProperties>> entry : annotations.getFieldAnnotations().entrySet()) {
+            result.append("\n").append(entry.getKey()).append(": ").append(render(entry.getValue()));
+        }
+        return result.toString();
+    }
+
+    private static String render(List<AnnotationProperties> annotations) {
+        Set<String> result = new TreeSet<>();
+        for (AnnotationProperties properties : annotations) {
+            StringBuilder sb = new StringBuilder(properties.getDescriptor());
+            for (String name : ARRAY_NAMES) {
+                Set<Object> values = properties.getArrayValues(name);
+                if (values != null) {
+                    Set<String> sorted = new TreeSet<>();
+                    values.forEach(v -> sorted.add(v.getClass().getSimpleName() + ":" + v));
+                    sb.append(" ").append(name).append("=").append(sorted);
+                }
+            }
+            result.add(sb.toString());
+        }
+        return result.toString();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface ArrayValues {
+        ElementType[] enums();
+        String[] strings();
+        int[] ints();
+        int[] noInts();
+        Nonnull[] nested();
+    }
+
+    @SuppressWarnings("unused")
+    @AnnotationWithClassValues(annotations = { Nonnull.class, NotNull.class })
+    @TypeAnnotationRuntimeRetention
+    static class RuntimeOnly {
+        @FieldAnnotationRuntimeRetention
+        private int annotated;
+
+        @ArrayValues(enums = { ElementType.FIELD, ElementType.TYPE }, strings = { "a", "b" }, ints = { 1 }, noInts = {}, nested = { @Nonnull })
+        private Object arrays;
+
+        private List<@TypeUseAnnotationRuntimeRetention String> parameterized;
+        private @TypeUseAnnotationRuntimeRetention String @TypeUseAnnotationRuntimeRetention [] array;
+        private Map<? extends @TypeUseAnnotationRuntimeRetention Object, ? super @TypeUseAnnotationRuntimeRetention String> wildcards;
+        private int plain;
+    }
+}
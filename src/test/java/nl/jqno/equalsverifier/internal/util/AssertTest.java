@@ -4,10 +4,15 @@ import nl.jqno.equalsverifier.internal.exceptions.AssertionException;
 import nl.jqno.equalsverifier.testhelpers.ExpectedExceptionTestBase;
 import org.junit.Test;
 
+import java.util.function.Supplier;
+
 import static nl.jqno.equalsverifier.testhelpers.Util.coverThePrivateConstructor;
 
 public class AssertTest extends ExpectedExceptionTestBase {
     private static final Formatter FAIL = Formatter.of("fail");
+    private static final Supplier<Formatter> NOT_CALLED = () -> {
+        throw new IllegalStateException("message should not be created");
+    };
 
     @Test
     public void coverTheConstructor() {
@@ -52,6 +57,42 @@ public class AssertTest extends ExpectedExceptionTestBase {
         Assert.assertTrue(FAIL, false);
     }
 
+    @Test
+    public void lazyAssertEqualsSuccess() {
+        Assert.assertEquals(NOT_CALLED, "text", "text");
+    }
+
+    @Test
+    public void lazyAssertEqualsFailure() {
+        expectException(AssertionException.class);
+        expectDescription("fail");
+        Assert.assertEquals(() -> FAIL, "one", "two");
+    }
+
+    @Test
+    public void lazyAssertFalseSuccess() {
+        Assert.assertFalse(NOT_CALLED, false);
+    }
+
+    @Test
+    public void lazyAssertFalseFailure() {
+        expectException(AssertionException.class);
+        expectDescription("fail");
+        Assert.assertFalse(() -> FAIL, true);
+    }
+
+    @Test
+    public void lazyAssertTrueSuccess() {
+        Assert.assertTrue(NOT_CALLED, true);
+    }
+
+    @Test
+    public void lazyAssertTrueFailure() {
+        expectException(AssertionException.class);
+        expectDescription("fail");
+        Assert.assertTrue(() -> FAIL, false);
+    }
+
     @Test
     public void failFailure() {
         expectException(AssertionException.class);
@@ -115,6 +115,18 @@ public class FormatterTest {
         assertThat(f.format(), containsString("12"));
     }
 
+    @Test
+    public void parametersContainingPlaceholdersAreNotSubstituted() {
+        Formatter f = Formatter.of("%% and %%", "%%", "x");
+        assertEquals("%% and x", f.format());
+    }
+
+    @Test
+    public void placeholdersAtBothEnds() {
+        Formatter f = Formatter.of("%%middle%%", "start-", "-end");
+        assertEquals("start-middle-end", f.format());
+    }
+
     @Test
     public void nullParameter() {
         Formatter f = Formatter.of("This parameter is null: %%", (Object)null);
@@ -0,0 +1,9 @@
+package nl.jqno.equalsverifier.testhelpers.packages.correct;
+
+public abstract class AbstractEquals {
+    @Override
+    public abstract boolean equals(Object obj);
+
+    @Override
+    public abstract int hashCode();
+}
@@ -0,0 +1,6 @@
+package nl.jqno.equalsverifier.testhelpers.packages.correct;
+
+public interface EqualsInterface {
+    @Override
+    boolean equals(Object obj);
+}
@@ -0,0 +1,19 @@
+package nl.jqno.equalsverifier.testhelpers.packages.correct;
+
+public final class NoEquals {
+    static {
+        if (true) {
+            throw new IllegalStateException("This class should never be initialized");
+        }
+    }
+
+    private final int x;
+
+    public NoEquals(int x) {
+        this.x = x;
+    }
+
+    public int getX() {
+        return x;
+    }
+}
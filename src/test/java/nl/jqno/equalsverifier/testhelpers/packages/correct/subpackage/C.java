@@ -0,0 +1,27 @@
+package nl.jqno.equalsverifier.testhelpers.packages.correct.subpackage;
+
+import java.util.Objects;
+
+public final class C {
+    private final int x;
+    private final int y;
+
+    public C(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof C)) {
+            return false;
+        }
+        C other = (C)obj;
+        return x == other.x && y == other.y;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(x, y);
+    }
+}
@@ -0,0 +1,27 @@
+package nl.jqno.equalsverifier.testhelpers.packages.twoincorrect;
+
+import java.util.Objects;
+
+public final class IncorrectN {
+    private final int x;
+    private final int y;
+
+    public IncorrectN(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof IncorrectN)) {
+            return false;
+        }
+        IncorrectN other = (IncorrectN)obj;
+        return x == other.x;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(x, y);
+    }
+}